@@ -0,0 +1,25 @@
+package ec.edu.ups.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada del jar de benchmarks. Acepta las mismas opciones de línea de comandos que
+ * `org.openjdk.jmh.Main` y siempre agrega el perfilador de GC, de modo que cada resultado incluye la
+ * tasa de asignación por operación (`gc.alloc.rate.norm`).
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions lineaDeComandos = new CommandLineOptions(args);
+        OptionsBuilder opciones = new OptionsBuilder();
+        opciones.parent(lineaDeComandos).addProfiler(GCProfiler.class);
+        if (lineaDeComandos.getIncludes().isEmpty())
+            opciones.include(SolverBenchmark.class.getSimpleName());
+        new Runner(opciones.build()).run();
+    }
+}
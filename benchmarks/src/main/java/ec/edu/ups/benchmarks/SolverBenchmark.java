@@ -0,0 +1,177 @@
+package ec.edu.ups.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ec.edu.ups.generator.GeneratorRegistry;
+import ec.edu.ups.generator.generatorImpl.MazeGeneratorAleatorio;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.MazeSolver;
+import ec.edu.ups.solver.SolverRegistry;
+
+/**
+ * Mide cada `MazeSolver` del {@link SolverRegistry} sobre laberintos cuadrados generados con una semilla
+ * fija, variando el tamaño, la topología y si el destino es alcanzable.
+ * <ul>
+ *   <li>`RANDOM_0.2`, `RANDOM_0.35`: muros repartidos al azar con la densidad que sigue al guion bajo (el
+ *   generador de relleno aleatorio). La densidad va en el nombre de la topología y no en un parámetro
+ *   aparte porque las demás topologías no la usan: como eje propio solo multiplicaría combinaciones
+ *   idénticas.</li>
+ *   <li>`OPEN`: sin muros.</li>
+ *   <li>`SERPENTINE`: paredes horizontales alternadas que obligan a recorrer el laberinto en zigzag.</li>
+ *   <li>`BACKTRACKER`, `PRIM`, `KRUSKAL`, `DIVISION`: laberintos perfectos de los generadores de
+ *   {@link GeneratorRegistry}, con el fin en la última sala.</li>
+ * </ul>
+ * Con `reachable=true` y una topología `RANDOM_*` se abre un pasillo por la primera fila y la última columna
+ * para garantizar un camino (las otras topologías ya lo tienen); con `reachable=false` el destino se
+ * encierra con muros y la búsqueda debe agotar su componente.
+ * <p>
+ * El solucionador se crea una vez por prueba y se reutiliza entre invocaciones, como en la aplicación:
+ * los motores basados en índices amortizan sus buffers. La excepción es el LPA* incremental, que se crea
+ * de nuevo en cada invocación: sobre un laberinto sin cambios conserva su estado y, desde la segunda
+ * consulta, solo reconstruiría el camino sin buscar. Los solucionadores que solo trabajan sobre la
+ * matriz de `Cell` la reciben construida una vez por prueba, para no medir en cada invocación la
+ * conversión O(filas × columnas) de `getPath(MazeGrid)`. Los recursivos clásicos pueden agotar la pila
+ * en los tamaños grandes; JMH informa ese caso como un error de la combinación y sigue con las demás.
+ * Para acotar la matriz de parámetros se usa `-p`, por ejemplo `-p size=1024 -p solver="BFS Compacto,JPS"`.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+    /** Semilla de todos los laberintos, para que las ejecuciones sean comparables. */
+    private static final long SEMILLA = 42L;
+    /** Nombre del solucionador incremental, que no se reutiliza entre invocaciones. */
+    private static final String INCREMENTAL = "LPA* Incremental";
+    /** Prefijo de las topologías de relleno aleatorio; le sigue la densidad de muros. */
+    private static final String ALEATORIA = "RANDOM_";
+    /** Generador de cada topología de laberinto perfecto. */
+    private static final Map<String, String> GENERADORES = Map.of(
+            "BACKTRACKER", "Backtracking recursivo",
+            "PRIM", "Prim aleatorio",
+            "KRUSKAL", "Kruskal aleatorio",
+            "DIVISION", "División recursiva");
+
+    @Param({"64", "256", "1024", "4096"})
+    public int size;
+
+    @Param({"RANDOM_0.2", "RANDOM_0.35", "OPEN", "SERPENTINE", "BACKTRACKER", "PRIM", "KRUSKAL", "DIVISION"})
+    public String topology;
+
+    @Param({"true", "false"})
+    public boolean reachable;
+
+    @Param({"BFS", "BFS Compacto", "DFS Iterativo", "A* Manhattan", "Dijkstra", "BFS Bidireccional", "JPS",
+            "BFS Paralelo", "LPA* Incremental", "Recursivo Completo Iterativo"})
+    public String solver;
+
+    /** El laberinto de la prueba. */
+    private MazeGrid grid;
+    /** El solucionador de la prueba. */
+    private MazeSolver instancia;
+    /** La matriz de `Cell` del laberinto, o `null` si el solucionador trabaja sobre la cuadrícula. */
+    private Cell[][] celdas;
+    /** La celda de inicio de {@link #celdas}. */
+    private Cell celdaInicio;
+    /** La celda de fin de {@link #celdas}. */
+    private Cell celdaFin;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        this.grid = construir(this.size, this.topology, this.reachable);
+        this.instancia = SolverRegistry.create(this.solver);
+        if (MazeSolver.usesCells(this.instancia)) {
+            this.celdas = this.grid.toCells();
+            this.celdaInicio = this.celdas[this.grid.rowOf(this.grid.getStart())][this.grid.colOf(this.grid.getStart())];
+            this.celdaFin = this.celdas[this.grid.rowOf(this.grid.getEnd())][this.grid.colOf(this.grid.getEnd())];
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void reiniciarIncremental() {
+        if (INCREMENTAL.equals(this.solver))
+            this.instancia = SolverRegistry.create(this.solver);
+    }
+
+    @Benchmark
+    public SolveResults resolver() {
+        return this.celdas != null
+                ? this.instancia.getPath(this.celdas, this.celdaInicio, this.celdaFin)
+                : this.instancia.getPath(this.grid);
+    }
+
+    /**
+     * Construye el laberinto de una combinación de parámetros, con el inicio arriba a la izquierda y el
+     * fin abajo a la derecha (en los laberintos perfectos, en la última sala).
+     */
+    static MazeGrid construir(int lado, String topologia, boolean alcanzable) {
+        MazeGrid grid;
+        boolean aleatoria = topologia.startsWith(ALEATORIA);
+        switch (aleatoria ? ALEATORIA : topologia) {
+            case "OPEN":
+                grid = new MazeGrid(lado, lado);
+                break;
+            case ALEATORIA:
+                double densidad = Double.parseDouble(topologia.substring(ALEATORIA.length()));
+                grid = new MazeGeneratorAleatorio(densidad).generate(lado, lado, SEMILLA);
+                break;
+            case "SERPENTINE":
+                grid = new MazeGrid(lado, lado);
+                for (int r = 1; r < lado; r += 2) {
+                    // Cada pared deja un hueco, alternando entre el extremo derecho y el izquierdo.
+                    int hueco = (r / 2) % 2 == 0 ? lado - 1 : 0;
+                    for (int c = 0; c < lado; c++) {
+                        if (c != hueco)
+                            grid.setWall(grid.index(r, c), true);
+                    }
+                }
+                break;
+            default:
+                String generador = GENERADORES.get(topologia);
+                if (generador == null)
+                    throw new IllegalArgumentException("Topología desconocida: " + topologia);
+                grid = GeneratorRegistry.create(generador).generate(lado, lado, SEMILLA);
+        }
+        if (grid.getStart() == MazeGrid.NONE) {
+            grid.setWall(0, false);
+            grid.setWall(grid.size() - 1, false);
+            grid.setStart(0);
+            grid.setEnd(grid.size() - 1);
+        }
+        int fin = grid.getEnd();
+        if (alcanzable && aleatoria) {
+            for (int c = 0; c < lado; c++)
+                grid.setWall(grid.index(0, c), false);
+            for (int r = 0; r < lado; r++)
+                grid.setWall(grid.index(r, lado - 1), false);
+        } else if (!alcanzable) {
+            int fila = grid.rowOf(fin);
+            int columna = grid.colOf(fin);
+            int[][] vecinas = {{fila + 1, columna}, {fila - 1, columna}, {fila, columna + 1}, {fila, columna - 1}};
+            for (int[] v : vecinas) {
+                if (v[0] >= 0 && v[0] < lado && v[1] >= 0 && v[1] < lado)
+                    grid.setWall(grid.index(v[0], v[1]), true);
+            }
+        }
+        return grid;
+    }
+}
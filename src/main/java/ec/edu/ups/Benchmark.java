@@ -0,0 +1,313 @@
+package ec.edu.ups;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import ec.edu.ups.dao.DaoImpl.MazeDAOBinary;
+import ec.edu.ups.generator.GeneratorRegistry;
+import ec.edu.ups.generator.generatorImpl.MazeGeneratorAleatorio;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.MazeSolver;
+import ec.edu.ups.solver.SolverRegistry;
+
+/**
+ * Punto de entrada sin interfaz gráfica para medir los solucionadores. Carga laberintos de archivos de
+ * texto o los crea con uno de los generadores de {@link GeneratorRegistry}, ejecuta los algoritmos elegidos con unas rondas de calentamiento y escribe
+ * una fila por ejecución (tiempo, largo del camino y celdas visitadas) en CSV o JSON. No necesita
+ * pantalla, así que puede correr en un servidor de integración.
+ * <p>
+ * Opciones (todas opcionales):
+ * </p>
+ * <pre>
+ *   --maze archivo         laberinto binario (.maze) o de texto: '#' muro, '.' libre, 'S' inicio, 'E' fin
+ *                          (se puede repetir)
+ *   --generator nombre     generador de los laberintos, por nombre ("Relleno aleatorio")
+ *   --rows N --cols N      tamaño de los laberintos generados (200 x 200)
+ *   --density D            proporción de muros del relleno aleatorio (0.25)
+ *   --mazes K              cantidad de laberintos generados, si no se indica --maze (1)
+ *   --seed S               semilla de los laberintos generados (42)
+ *   --solvers a,b,c        algoritmos por nombre, o "all" (todos)
+ *   --iterations N         ejecuciones medidas por algoritmo y laberinto (5)
+ *   --warmup N             ejecuciones de calentamiento no registradas (2)
+ *   --format csv|json      formato de salida (csv)
+ *   --out archivo          archivo de salida (salida estándar)
+ * </pre>
+ * Las mediciones corren en un hilo con la pila de {@link SolverRegistry#STACK_SIZE}, la misma que usa la
+ * aplicación, para que los recursivos clásicos también se puedan medir. Un `StackOverflowError` u otra
+ * excepción de un algoritmo se registra en la columna `error` y se pasa al siguiente algoritmo. Un resumen
+ * con la mediana de las ejecuciones sin error de cada algoritmo se escribe en la salida de errores.
+ */
+public class Benchmark {
+    /** Nombre del generador de relleno aleatorio, el único que usa `--density`. */
+    private static final String RELLENO_ALEATORIO = "Relleno aleatorio";
+
+    /**
+     * Una ejecución medida.
+     */
+    private record Run(String algorithm, String maze, int rows, int cols, int iteration, long nanos,
+                       int pathLength, int visited, String error) {
+    }
+
+    /**
+     * Un laberinto a medir con su nombre.
+     */
+    private record Maze(String name, MazeGrid grid) {
+    }
+
+    public static void main(String[] paramArrayOfString) throws IOException, InterruptedException {
+        Map<String, String> opciones = leerOpciones(paramArrayOfString);
+        List<String> algoritmos = elegirAlgoritmos(opciones.getOrDefault("solvers", "all"));
+        int iteraciones = Integer.parseInt(opciones.getOrDefault("iterations", "5"));
+        int calentamiento = Integer.parseInt(opciones.getOrDefault("warmup", "2"));
+        String formato = opciones.getOrDefault("format", "csv").toLowerCase(Locale.ROOT);
+        if (!formato.equals("csv") && !formato.equals("json"))
+            throw new IllegalArgumentException("Formato desconocido: " + formato);
+
+        List<Maze> laberintos = cargarLaberintos(opciones);
+        List<Run> ejecuciones = new ArrayList<>();
+        Thread hilo = new Thread(null, () -> {
+            for (Maze maze : laberintos) {
+                for (String algoritmo : algoritmos) {
+                    ejecuciones.addAll(medir(algoritmo, maze, calentamiento, iteraciones));
+                }
+            }
+        }, "benchmark", SolverRegistry.STACK_SIZE);
+        hilo.start();
+        hilo.join();
+
+        String salida = opciones.get("out");
+        PrintStream out = salida == null ? System.out
+                : new PrintStream(Files.newOutputStream(Paths.get(salida)), false, StandardCharsets.UTF_8);
+        try {
+            if (formato.equals("json"))
+                escribirJson(out, ejecuciones);
+            else
+                escribirCsv(out, ejecuciones);
+        } finally {
+            out.flush();
+            if (out != System.out)
+                out.close();
+        }
+        escribirResumen(System.err, ejecuciones);
+    }
+
+    /**
+     * Ejecuta un algoritmo sobre un laberinto: primero el calentamiento y luego las ejecuciones medidas.
+     * Cada ejecución usa una instancia nueva del solucionador, así ninguna reutiliza el estado de otra
+     * (por ejemplo, el LPA* incremental). Los solucionadores clásicos trabajan sobre la matriz de `Cell`:
+     * esa matriz se construye antes de empezar a medir, para que el tiempo no incluya una conversión
+     * O(filas × columnas) que los basados en índices no pagan.
+     *
+     * @return Las ejecuciones medidas; si el algoritmo falla, una sola fila con el error.
+     */
+    private static List<Run> medir(String algoritmo, Maze maze, int calentamiento, int iteraciones) {
+        MazeGrid grid = maze.grid();
+        List<Run> ejecuciones = new ArrayList<>();
+        for (int i = -calentamiento; i < iteraciones; i++) {
+            MazeSolver solver = SolverRegistry.create(algoritmo);
+            Cell[][] celdas = null;
+            Cell celdaInicio = null;
+            Cell celdaFin = null;
+            if (MazeSolver.usesCells(solver) && grid.hasEndpoints()) {
+                celdas = grid.toCells();
+                celdaInicio = celdas[grid.rowOf(grid.getStart())][grid.colOf(grid.getStart())];
+                celdaFin = celdas[grid.rowOf(grid.getEnd())][grid.colOf(grid.getEnd())];
+            }
+            long inicio = System.nanoTime();
+            SolveResults resultado;
+            try {
+                resultado = celdas != null
+                        ? solver.getPath(celdas, celdaInicio, celdaFin)
+                        : solver.getPath(grid);
+            } catch (StackOverflowError | RuntimeException e) {
+                ejecuciones.add(new Run(algoritmo, maze.name(), grid.getRows(), grid.getCols(), Math.max(i, 0),
+                        System.nanoTime() - inicio, -1, -1, e.getClass().getSimpleName()));
+                return ejecuciones;
+            }
+            long nanos = System.nanoTime() - inicio;
+            if (i >= 0)
+                ejecuciones.add(new Run(algoritmo, maze.name(), grid.getRows(), grid.getCols(), i, nanos,
+                        resultado.camino.size(), resultado.visitadas.size(), ""));
+        }
+        return ejecuciones;
+    }
+
+    /**
+     * Lee las opciones de la forma `--clave valor`.
+     */
+    private static Map<String, String> leerOpciones(String[] args) {
+        Map<String, String> opciones = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length)
+                throw new IllegalArgumentException("Opción inválida: " + args[i]);
+            String clave = args[i].substring(2);
+            String valor = args[++i];
+            // --maze puede repetirse: los archivos se acumulan separados por el separador de rutas.
+            opciones.merge(clave, valor, (a, b) -> a + File.pathSeparator + b);
+        }
+        return opciones;
+    }
+
+    private static List<String> elegirAlgoritmos(String lista) {
+        if (lista.equalsIgnoreCase("all"))
+            return SolverRegistry.names();
+        List<String> algoritmos = new ArrayList<>();
+        for (String nombre : lista.split(",")) {
+            String limpio = nombre.trim();
+            if (!SolverRegistry.contains(limpio))
+                throw new IllegalArgumentException("Algoritmo desconocido: " + limpio
+                        + ". Disponibles: " + SolverRegistry.names());
+            algoritmos.add(limpio);
+        }
+        return algoritmos;
+    }
+
+    private static List<Maze> cargarLaberintos(Map<String, String> opciones) throws IOException {
+        List<Maze> laberintos = new ArrayList<>();
+        String archivos = opciones.get("maze");
+        if (archivos != null) {
+            for (String archivo : archivos.split(File.pathSeparator)) {
+                Path ruta = Paths.get(archivo);
+                MazeGrid grid = ruta.toString().endsWith("." + MazeDAOBinary.EXTENSION)
+                        ? new MazeDAOBinary().load(ruta.toFile()) : cargarTexto(ruta);
+                laberintos.add(new Maze(ruta.getFileName().toString(), grid));
+            }
+            return laberintos;
+        }
+        int filas = Integer.parseInt(opciones.getOrDefault("rows", "200"));
+        int columnas = Integer.parseInt(opciones.getOrDefault("cols", "200"));
+        double densidad = Double.parseDouble(opciones.getOrDefault("density", "0.25"));
+        int cantidad = Integer.parseInt(opciones.getOrDefault("mazes", "1"));
+        long semilla = Long.parseLong(opciones.getOrDefault("seed", "42"));
+        String generador = opciones.getOrDefault("generator", RELLENO_ALEATORIO);
+        if (!GeneratorRegistry.contains(generador))
+            throw new IllegalArgumentException("Generador desconocido: " + generador);
+        for (int k = 0; k < cantidad; k++) {
+            String nombre;
+            MazeGrid grid;
+            if (generador.equals(RELLENO_ALEATORIO)) {
+                nombre = String.format(Locale.ROOT, "random-%dx%d-d%.2f-s%d", filas, columnas, densidad, semilla + k);
+                grid = new MazeGeneratorAleatorio(densidad).generate(filas, columnas, semilla + k);
+            } else {
+                nombre = String.format(Locale.ROOT, "%s-%dx%d-s%d", generador, filas, columnas, semilla + k);
+                grid = GeneratorRegistry.create(generador).generate(filas, columnas, semilla + k);
+            }
+            laberintos.add(new Maze(nombre, grid));
+        }
+        return laberintos;
+    }
+
+    /**
+     * Carga un laberinto de texto: una línea por fila; `#` es muro, `S` el inicio, `E` el fin y cualquier
+     * otro carácter una celda libre. Las filas cortas se completan con celdas libres. Sin `S` o `E`, los
+     * extremos son la esquina superior izquierda y la inferior derecha.
+     *
+     * @param ruta El archivo.
+     * @return La cuadrícula con inicio y fin definidos.
+     * @throws IOException si el archivo no se puede leer.
+     */
+    static MazeGrid cargarTexto(Path ruta) throws IOException {
+        List<String> lineas = new ArrayList<>(Files.readAllLines(ruta, StandardCharsets.UTF_8));
+        lineas.removeIf(String::isEmpty);
+        if (lineas.isEmpty())
+            throw new IOException("El archivo " + ruta + " no contiene un laberinto.");
+        int columnas = 0;
+        for (String linea : lineas)
+            columnas = Math.max(columnas, linea.length());
+        MazeGrid grid = new MazeGrid(lineas.size(), columnas);
+        int inicio = -1;
+        int fin = -1;
+        for (int r = 0; r < lineas.size(); r++) {
+            String linea = lineas.get(r);
+            for (int c = 0; c < linea.length(); c++) {
+                char ch = linea.charAt(c);
+                int index = grid.index(r, c);
+                if (ch == '#')
+                    grid.setWall(index, true);
+                else if (ch == 'S')
+                    inicio = index;
+                else if (ch == 'E')
+                    fin = index;
+            }
+        }
+        ponerExtremos(grid, inicio == -1 ? 0 : inicio, fin == -1 ? grid.size() - 1 : fin);
+        return grid;
+    }
+
+    private static void ponerExtremos(MazeGrid grid, int inicio, int fin) {
+        grid.setWall(inicio, false);
+        grid.setWall(fin, false);
+        grid.setStart(inicio);
+        grid.setEnd(fin);
+    }
+
+    private static void escribirCsv(PrintStream out, List<Run> ejecuciones) {
+        out.println("algorithm,maze,rows,cols,iteration,nanos,pathLength,visited,error");
+        for (Run run : ejecuciones) {
+            out.println(String.join(",", csv(run.algorithm()), csv(run.maze()), String.valueOf(run.rows()),
+                    String.valueOf(run.cols()), String.valueOf(run.iteration()), String.valueOf(run.nanos()),
+                    String.valueOf(run.pathLength()), String.valueOf(run.visited()), csv(run.error())));
+        }
+    }
+
+    private static void escribirJson(PrintStream out, List<Run> ejecuciones) {
+        out.println("[");
+        for (int i = 0; i < ejecuciones.size(); i++) {
+            Run run = ejecuciones.get(i);
+            out.print("  {\"algorithm\": " + json(run.algorithm()) + ", \"maze\": " + json(run.maze())
+                    + ", \"rows\": " + run.rows() + ", \"cols\": " + run.cols()
+                    + ", \"iteration\": " + run.iteration() + ", \"nanos\": " + run.nanos()
+                    + ", \"pathLength\": " + run.pathLength() + ", \"visited\": " + run.visited()
+                    + ", \"error\": " + (run.error().isEmpty() ? "null" : json(run.error())) + "}");
+            out.println(i + 1 < ejecuciones.size() ? "," : "");
+        }
+        out.println("]");
+    }
+
+    /**
+     * Escribe la mediana del tiempo de cada algoritmo sobre cada laberinto. Las ejecuciones con error no
+     * entran en la mediana: su tiempo es el de una búsqueda que no terminó.
+     */
+    private static void escribirResumen(PrintStream err, List<Run> ejecuciones) {
+        Map<String, List<Run>> grupos = new LinkedHashMap<>();
+        for (Run run : ejecuciones)
+            grupos.computeIfAbsent(run.algorithm() + " @ " + run.maze(), k -> new ArrayList<>()).add(run);
+        for (Map.Entry<String, List<Run>> grupo : grupos.entrySet()) {
+            List<Run> runs = grupo.getValue();
+            List<Run> validas = runs.stream().filter(run -> run.error().isEmpty()).toList();
+            if (validas.isEmpty()) {
+                err.println(grupo.getKey() + ": " + runs.get(0).error());
+                continue;
+            }
+            long[] tiempos = validas.stream().mapToLong(Run::nanos).toArray();
+            Arrays.sort(tiempos);
+            err.printf(Locale.ROOT, "%s: mediana %.3f ms, camino %d, visitadas %d%s%n", grupo.getKey(),
+                    tiempos[tiempos.length / 2] / 1e6, validas.get(0).pathLength(), validas.get(0).visited(),
+                    validas.size() < runs.size() ? " (" + (runs.size() - validas.size()) + " con error)" : "");
+        }
+    }
+
+    private static String csv(String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0)
+            return valor;
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    private static String json(String valor) {
+        return '"' + valor.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -1,12 +1,13 @@
 package ec.edu.ups.controlador;
 
-import java.awt.Color;
-import javax.swing.JButton;
+import java.util.ArrayList;
+import java.util.List;
 
 
 import ec.edu.ups.vista.MazePanel;
 import ec.edu.ups.models.Cell;
-import ec.edu.ups.models.CellState;
+import ec.edu.ups.models.MazeChangeListener;
+import ec.edu.ups.models.MazeGrid;
 
 /**
  * Controlador del laberinto que maneja la lógica de interacción entre
@@ -21,6 +22,7 @@ public class MazeController {
     private Cell startCell;
     private Cell endCell;
     private Mode currentMode = Mode.WALL;
+    private final List<MazeChangeListener> listeners = new ArrayList<>();
 
     /**
      * Define los modos posibles de interacción con el laberinto.
@@ -30,13 +32,38 @@ public class MazeController {
     }
 
     /**
-     * Constructor de MazeController.
+     * Constructor de MazeController. Si el laberinto del panel ya tiene inicio o fin (por ejemplo, porque
+     * fue generado), el controlador los toma como celdas de inicio y fin.
      *
      * @param paramMazePanel El panel de la interfaz gráfica que representa el laberinto.
      */
     public MazeController(MazePanel paramMazePanel) {
         this.panel = paramMazePanel;
         paramMazePanel.setController(this);
+        MazeGrid grid = paramMazePanel.getGrid();
+        if (grid.getStart() != MazeGrid.NONE)
+            this.startCell = paramMazePanel.getCell(grid.rowOf(grid.getStart()), grid.colOf(grid.getStart()));
+        if (grid.getEnd() != MazeGrid.NONE)
+            this.endCell = paramMazePanel.getCell(grid.rowOf(grid.getEnd()), grid.colOf(grid.getEnd()));
+    }
+
+    /**
+     * Registra un componente que debe ser notificado de cada cambio en los muros, el inicio o el fin
+     * del laberinto.
+     *
+     * @param paramMazeChangeListener El componente a notificar.
+     */
+    public void addChangeListener(MazeChangeListener paramMazeChangeListener) {
+        this.listeners.add(paramMazeChangeListener);
+    }
+
+    /**
+     * Deja de notificar a un componente registrado con {@link #addChangeListener(MazeChangeListener)}.
+     *
+     * @param paramMazeChangeListener El componente a quitar.
+     */
+    public void removeChangeListener(MazeChangeListener paramMazeChangeListener) {
+        this.listeners.remove(paramMazeChangeListener);
     }
 
     /**
@@ -71,40 +98,14 @@ public class MazeController {
 
     /**
      * Versión alternativa del método para manejar clics en celdas,
-     * conservada para compatibilidad con versiones anteriores.
+     * conservada para compatibilidad con versiones anteriores. Como toda la vista se actualiza ahora
+     * a través del panel, equivale a {@link #onCellClicked(int, int)}.
      *
      * @param paramInt1 Fila de la celda.
      * @param paramInt2 Columna de la celda.
      */
     public void onCellClickedLegacy(int paramInt1, int paramInt2) {
-        Cell cell = this.panel.getCells()[paramInt1][paramInt2];
-        JButton jButton = this.panel.getButton(paramInt1, paramInt2);
-
-        switch (this.currentMode) {
-            case START:
-                if (this.startCell != null)
-                    this.panel.getButton(this.startCell.row, this.startCell.col).setBackground(Color.WHITE);
-                this.startCell = cell;
-                cell.state = CellState.START;
-                jButton.setBackground(Color.GREEN);
-                break;
-            case END:
-                if (this.endCell != null)
-                    this.panel.getButton(this.endCell.row, this.endCell.col).setBackground(Color.WHITE);
-                this.endCell = cell;
-                cell.state = CellState.END;
-                jButton.setBackground(Color.RED);
-                break;
-            case WALL:
-                if (cell.state == CellState.WALL) {
-                    cell.state = CellState.EMPTY;
-                    jButton.setBackground(Color.WHITE);
-                    break;
-                }
-                cell.state = CellState.WALL;
-                jButton.setBackground(Color.BLACK);
-                break;
-        }
+        onCellClicked(paramInt1, paramInt2);
     }
 
     /**
@@ -139,15 +140,12 @@ public class MazeController {
      * @param paramInt2 Columna de la celda.
      */
     public void setEndCell(int paramInt1, int paramInt2) {
-        Cell cell = this.panel.getCells()[paramInt1][paramInt2];
-        JButton jButton = this.panel.getButton(paramInt1, paramInt2);
-        if (this.endCell != null) {
-            this.panel.getButton(this.endCell.row, this.endCell.col).setBackground(Color.WHITE);
-            this.endCell.state = CellState.EMPTY;
-        }
-        this.endCell = cell;
-        cell.state = CellState.END;
-        jButton.setBackground(Color.RED);
+        Cell anterior = this.endCell;
+        actualizarExtremo(paramInt1, paramInt2, false);
+        if (anterior != null)
+            this.panel.actualizarCelda(anterior.row, anterior.col);
+        this.panel.actualizarCelda(paramInt1, paramInt2);
+        this.endCell = this.panel.getCell(paramInt1, paramInt2);
     }
 
     /**
@@ -157,31 +155,68 @@ public class MazeController {
      * @param paramInt2 Columna de la celda.
      */
     public void setStartCell(int paramInt1, int paramInt2) {
-        Cell cell = this.panel.getCells()[paramInt1][paramInt2];
-        JButton jButton = this.panel.getButton(paramInt1, paramInt2);
-        if (this.startCell != null) {
-            this.panel.getButton(this.startCell.row, this.startCell.col).setBackground(Color.WHITE);
-            this.startCell.state = CellState.EMPTY;
-        }
-        this.startCell = cell;
-        cell.state = CellState.START;
-        jButton.setBackground(Color.GREEN);
+        Cell anterior = this.startCell;
+        actualizarExtremo(paramInt1, paramInt2, true);
+        if (anterior != null)
+            this.panel.actualizarCelda(anterior.row, anterior.col);
+        this.panel.actualizarCelda(paramInt1, paramInt2);
+        this.startCell = this.panel.getCell(paramInt1, paramInt2);
     }
 
     /**
      * Alterna el estado de una celda entre transitable (blanca) y muro (negro).
+     * El inicio y el fin no se modifican.
      *
      * @param paramInt1 Fila de la celda.
      * @param paramInt2 Columna de la celda.
      */
     public void toggleWall(int paramInt1, int paramInt2) {
-        Cell cell = this.panel.getCells()[paramInt1][paramInt2];
-        if (cell.state == CellState.EMPTY) {
-            cell.state = CellState.WALL;
-            this.panel.getButton(paramInt1, paramInt2).setBackground(Color.BLACK);
-        } else if (cell.state == CellState.WALL) {
-            cell.state = CellState.EMPTY;
-            this.panel.getButton(paramInt1, paramInt2).setBackground(Color.WHITE);
+        MazeGrid grid = this.panel.getGrid();
+        int index = grid.index(paramInt1, paramInt2);
+        if (index == grid.getStart() || index == grid.getEnd())
+            return;
+        boolean muro = !grid.isWall(index);
+        grid.setWall(index, muro);
+        this.panel.actualizarCelda(paramInt1, paramInt2);
+        notificarMuro(paramInt1, paramInt2, muro);
+    }
+
+    /**
+     * Refleja en la cuadrícula compacta un cambio de inicio o de fin y lo avisa a los componentes
+     * registrados. Una celda que pasa a ser extremo deja de ser muro.
+     *
+     * @param paramInt1 Fila de la celda.
+     * @param paramInt2 Columna de la celda.
+     * @param paramBoolean `true` si la celda es el nuevo inicio, `false` si es el nuevo fin.
+     */
+    private void actualizarExtremo(int paramInt1, int paramInt2, boolean paramBoolean) {
+        MazeGrid grid = this.panel.getGrid();
+        int index = grid.index(paramInt1, paramInt2);
+        if (grid.isWall(index)) {
+            grid.setWall(index, false);
+            notificarMuro(paramInt1, paramInt2, false);
+        }
+        if (paramBoolean)
+            grid.setStart(index);
+        else
+            grid.setEnd(index);
+        for (MazeChangeListener listener : this.listeners) {
+            if (paramBoolean)
+                listener.startChanged(paramInt1, paramInt2);
+            else
+                listener.endChanged(paramInt1, paramInt2);
         }
     }
+
+    /**
+     * Avisa a los componentes registrados que una celda cambió entre muro y transitable.
+     *
+     * @param paramInt1 Fila de la celda.
+     * @param paramInt2 Columna de la celda.
+     * @param paramBoolean `true` si la celda ahora es un muro.
+     */
+    private void notificarMuro(int paramInt1, int paramInt2, boolean paramBoolean) {
+        for (MazeChangeListener listener : this.listeners)
+            listener.wallChanged(paramInt1, paramInt2, paramBoolean);
+    }
 }
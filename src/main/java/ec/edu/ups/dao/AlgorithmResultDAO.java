@@ -1,5 +1,6 @@
 package ec.edu.ups.dao;
 
+import java.util.ArrayList;
 import java.util.List;
 import ec.edu.ups.models.AlgorithmResult;
 
@@ -24,6 +25,17 @@ public interface AlgorithmResultDAO {
      */
     void save(AlgorithmResult paramAlgorithmResult);
 
+    /**
+     * Guarda varios resultados. Las implementaciones que escriben por lotes pueden hacerlo con una sola
+     * escritura; por defecto equivale a llamar a {@link #save(AlgorithmResult)} con cada uno.
+     *
+     * @param paramList Los resultados a guardar, en orden.
+     */
+    default void saveAll(List<AlgorithmResult> paramList) {
+        for (AlgorithmResult algorithmResult : paramList)
+            save(algorithmResult);
+    }
+
     /**
      * Recupera todos los resultados almacenados en el sistema.
      *
@@ -31,6 +43,30 @@ public interface AlgorithmResultDAO {
      */
     List<AlgorithmResult> findAll();
 
+    /**
+     * Recupera todas las ejecuciones registradas de un algoritmo, de la más antigua a la más reciente.
+     * Por defecto filtra {@link #findAll()}; las implementaciones que conservan el historial devuelven
+     * todas las ejecuciones y no solo la última.
+     *
+     * @param paramString El nombre del algoritmo (sin distinguir mayúsculas).
+     * @return Las ejecuciones del algoritmo.
+     */
+    default List<AlgorithmResult> findHistory(String paramString) {
+        List<AlgorithmResult> list = new ArrayList<>();
+        for (AlgorithmResult algorithmResult : findAll()) {
+            if (algorithmResult.getAlgorithmName().equalsIgnoreCase(paramString))
+                list.add(algorithmResult);
+        }
+        return list;
+    }
+
+    /**
+     * Escribe en el almacenamiento los resultados que la implementación tenga pendientes. Por defecto no
+     * hace nada, porque cada guardado se escribe de inmediato.
+     */
+    default void flush() {
+    }
+
     /**
      * Elimina todos los registros almacenados. Útil para reiniciar el sistema o limpiar el archivo CSV.
      */
@@ -0,0 +1,266 @@
+package ec.edu.ups.dao.DaoImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ec.edu.ups.dao.AlgorithmResultDAO;
+import ec.edu.ups.models.AlgorithmResult;
+
+/**
+ * Decorador de un {@link AlgorithmResultDAO} que saca la escritura del hilo que guarda (normalmente el
+ * de Swing). {@link #save(AlgorithmResult)} solo encola el resultado en una cola acotada; un hilo de
+ * fondo la vacía y entrega lo que haya acumulado al DAO decorado en una sola llamada a
+ * {@link AlgorithmResultDAO#saveAll(List)}, de hasta {@link #LOTE} resultados.
+ * <p>
+ * Si la cola se llena, `save` espera a que haya lugar: es preferible frenar al productor a perder
+ * resultados. Las lecturas y {@link #clear()} esperan primero a que se escriba todo lo encolado, así
+ * que ven los mismos datos que verían con el DAO decorado solo. Al terminar la JVM un *shutdown hook*
+ * escribe lo pendiente (ver {@link #close()}).
+ * </p>
+ * <p>
+ * Expone métricas para diagnóstico: la profundidad actual de la cola, los lotes y resultados escritos, y
+ * la latencia de escritura (última, media y máxima) de cada lote.
+ * </p>
+ */
+public class AlgorithmResultDAOAsync implements AlgorithmResultDAO, AutoCloseable {
+    /** Capacidad por defecto de la cola. */
+    public static final int CAPACIDAD_POR_DEFECTO = 1024;
+    /** Cantidad máxima de resultados por escritura. */
+    public static final int LOTE = 256;
+    /** Cada cuánto revisa el escritor, con la cola vacía, si el decorador se cerró. */
+    private static final long ESPERA_MS = 100;
+
+    /** El DAO que realmente escribe. */
+    private final AlgorithmResultDAO delegado;
+    /** Resultados a la espera del hilo de escritura. */
+    private final BlockingQueue<AlgorithmResult> cola;
+    /** Hilo de escritura. */
+    private final Thread escritor;
+    /** Hook que escribe lo pendiente al terminar la JVM. */
+    private final Thread alTerminar;
+    /** Resultados encolados desde la creación. */
+    private final AtomicLong encolados = new AtomicLong();
+    /** Monitor con el que se espera al escritor. */
+    private final Object monitor = new Object();
+    /** Resultados procesados por el escritor (escritos o fallidos); protegido por {@link #monitor}. */
+    private long procesados;
+    /** `true` después de {@link #close()}; a partir de ahí los guardados van directo al DAO decorado. */
+    private volatile boolean cerrado;
+
+    private final AtomicLong lotes = new AtomicLong();
+    private final AtomicLong escritos = new AtomicLong();
+    private final AtomicLong fallidos = new AtomicLong();
+    private volatile long ultimaLatencia;
+    private final AtomicLong latenciaTotal = new AtomicLong();
+    private volatile long latenciaMaxima;
+
+    /**
+     * Crea el decorador con la capacidad por defecto.
+     *
+     * @param paramAlgorithmResultDAO El DAO que realmente escribe.
+     */
+    public AlgorithmResultDAOAsync(AlgorithmResultDAO paramAlgorithmResultDAO) {
+        this(paramAlgorithmResultDAO, CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Crea el decorador y arranca su hilo de escritura.
+     *
+     * @param paramAlgorithmResultDAO El DAO que realmente escribe.
+     * @param paramInt Capacidad de la cola.
+     */
+    public AlgorithmResultDAOAsync(AlgorithmResultDAO paramAlgorithmResultDAO, int paramInt) {
+        this.delegado = paramAlgorithmResultDAO;
+        this.cola = new ArrayBlockingQueue<>(paramInt);
+        this.escritor = new Thread(this::escribir, "results-writer");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+        this.alTerminar = new Thread(this::close, "results-shutdown");
+        Runtime.getRuntime().addShutdownHook(this.alTerminar);
+    }
+
+    /**
+     * Encola un resultado para escribirlo en segundo plano. Solo espera si la cola está llena.
+     *
+     * @param paramAlgorithmResult Resultado a guardar.
+     */
+    @Override
+    public void save(AlgorithmResult paramAlgorithmResult) {
+        if (this.cerrado) {
+            this.delegado.save(paramAlgorithmResult);
+            return;
+        }
+        this.encolados.incrementAndGet();
+        try {
+            this.cola.put(paramAlgorithmResult);
+        } catch (InterruptedException e) {
+            // No se encoló: se escribe aquí mismo para no perderlo.
+            Thread.currentThread().interrupt();
+            marcarProcesados(1);
+            this.delegado.save(paramAlgorithmResult);
+        }
+    }
+
+    /**
+     * Espera a que se escriba todo lo encolado y lee del DAO decorado.
+     *
+     * @return Lo que devuelve el DAO decorado.
+     */
+    @Override
+    public List<AlgorithmResult> findAll() {
+        esperarEscritos();
+        return this.delegado.findAll();
+    }
+
+    @Override
+    public List<AlgorithmResult> findHistory(String paramString) {
+        esperarEscritos();
+        return this.delegado.findHistory(paramString);
+    }
+
+    @Override
+    public void clear() {
+        esperarEscritos();
+        this.delegado.clear();
+    }
+
+    /**
+     * Espera a que se escriba todo lo encolado hasta ahora y pide al DAO decorado que escriba lo suyo.
+     */
+    @Override
+    public void flush() {
+        esperarEscritos();
+        this.delegado.flush();
+    }
+
+    /**
+     * Escribe lo pendiente y detiene el hilo de escritura; los guardados posteriores se hacen de forma
+     * síncrona. Se llama sola al terminar la JVM; llamarla antes quita ese hook.
+     */
+    @Override
+    public void close() {
+        if (this.cerrado)
+            return;
+        esperarEscritos();
+        this.cerrado = true;
+        // No se interrumpe al escritor: una interrupción a mitad de una escritura en un canal de archivo
+        // la abortaría. Se espera a que vea la marca de cierre.
+        try {
+            this.escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Lo que se haya encolado entre la espera y el cierre se escribe aquí.
+        List<AlgorithmResult> resto = new ArrayList<>();
+        this.cola.drainTo(resto);
+        if (!resto.isEmpty())
+            this.delegado.saveAll(resto);
+        this.delegado.flush();
+        if (Thread.currentThread() != this.alTerminar) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.alTerminar);
+            } catch (IllegalStateException e) {
+                // La JVM ya está terminando.
+            }
+        }
+    }
+
+    /** @return La cantidad de resultados que esperan en la cola. */
+    public int getQueueDepth() {
+        return this.cola.size();
+    }
+
+    /** @return La cantidad de lotes entregados al DAO decorado. */
+    public long getBatchesWritten() {
+        return this.lotes.get();
+    }
+
+    /** @return La cantidad de resultados escritos con éxito. */
+    public long getResultsWritten() {
+        return this.escritos.get();
+    }
+
+    /** @return La cantidad de resultados cuyo lote falló al escribirse. */
+    public long getResultsFailed() {
+        return this.fallidos.get();
+    }
+
+    /** @return La duración de la última escritura, en nanosegundos. */
+    public long getLastWriteLatencyNanos() {
+        return this.ultimaLatencia;
+    }
+
+    /** @return La duración media de las escrituras, en nanosegundos, o 0 si aún no hubo ninguna. */
+    public long getAverageWriteLatencyNanos() {
+        long n = this.lotes.get();
+        return n == 0 ? 0 : this.latenciaTotal.get() / n;
+    }
+
+    /** @return La duración de la escritura más lenta, en nanosegundos. */
+    public long getMaxWriteLatencyNanos() {
+        return this.latenciaMaxima;
+    }
+
+    /**
+     * Bucle del hilo de escritura: espera el primer resultado, junta los que ya estén en la cola y los
+     * escribe con una sola llamada. Termina cuando el decorador se cierra.
+     */
+    private void escribir() {
+        List<AlgorithmResult> lote = new ArrayList<>(LOTE);
+        while (!this.cerrado) {
+            try {
+                AlgorithmResult primero = this.cola.poll(ESPERA_MS, TimeUnit.MILLISECONDS);
+                if (primero == null)
+                    continue;
+                lote.add(primero);
+            } catch (InterruptedException e) {
+                return;
+            }
+            this.cola.drainTo(lote, LOTE - 1);
+            long inicio = System.nanoTime();
+            try {
+                this.delegado.saveAll(lote);
+                this.escritos.addAndGet(lote.size());
+            } catch (RuntimeException e) {
+                this.fallidos.addAndGet(lote.size());
+                System.err.println("Error al guardar resultados: " + e.getMessage());
+            }
+            long latencia = System.nanoTime() - inicio;
+            this.ultimaLatencia = latencia;
+            this.latenciaTotal.addAndGet(latencia);
+            if (latencia > this.latenciaMaxima)
+                this.latenciaMaxima = latencia;
+            this.lotes.incrementAndGet();
+            marcarProcesados(lote.size());
+            lote.clear();
+        }
+    }
+
+    private void marcarProcesados(int cantidad) {
+        synchronized (this.monitor) {
+            this.procesados += cantidad;
+            this.monitor.notifyAll();
+        }
+    }
+
+    /**
+     * Espera a que el escritor procese todo lo encolado hasta el momento de la llamada.
+     */
+    private void esperarEscritos() {
+        long objetivo = this.encolados.get();
+        synchronized (this.monitor) {
+            while (this.procesados < objetivo && !this.cerrado) {
+                try {
+                    this.monitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -19,7 +19,16 @@ import ec.edu.ups.models.AlgorithmResult;
  * </p>
  * 
  * Formato del archivo CSV:  
- * <code>nombre_algoritmo,numero_celdas,tiempo</code>
+ * <code>nombre_algoritmo,numero_celdas,tiempo[,huella_laberinto[,momento]]</code>
+ * <p>
+ * La huella es la huella de Zobrist del laberinto en hexadecimal y el momento son los milisegundos
+ * desde la época Unix; ambos son opcionales para que los archivos escritos antes de que existieran
+ * sigan leyéndose.
+ * </p>
+ * <p>
+ * Cada guardado relee y reescribe todo el archivo y conserva solo el último resultado de cada algoritmo.
+ * Para conservar el historial con guardados de costo constante está {@link AlgorithmResultDAOLog}.
+ * </p>
  * 
  * @author Pablo Feijo
  */
@@ -88,15 +97,11 @@ public class AlgorithmResultDAOFile implements AlgorithmResultDAO {
         try (BufferedReader reader = new BufferedReader(new FileReader(this.file))) {
             String line;
             while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length == 3) {
-                    String name = parts[0];
-                    int cells = Integer.parseInt(parts[1]);
-                    long time = Long.parseLong(parts[2]);
-                    results.add(new AlgorithmResult(name, cells, time));
-                }
+                AlgorithmResult algorithmResult = AlgorithmResult.parse(line);
+                if (algorithmResult != null)
+                    results.add(algorithmResult);
             }
-        } catch (IOException | NumberFormatException e) {
+        } catch (IOException e) {
             System.err.println("Error reading results from file: " + e.getMessage());
         }
 
@@ -0,0 +1,382 @@
+package ec.edu.ups.dao.DaoImpl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import ec.edu.ups.dao.AlgorithmResultDAO;
+import ec.edu.ups.models.AlgorithmResult;
+
+/**
+ * Implementación del patrón DAO para {@link AlgorithmResult} basada en un registro de solo anexado: cada
+ * ejecución agrega una línea al archivo (con la huella del laberinto y el momento de la ejecución) y
+ * nunca se reescribe lo anterior, así que se conserva todo el historial.
+ * <p>
+ * El formato de cada línea es el de {@link AlgorithmResult#toString()}, el mismo que usa
+ * {@link AlgorithmResultDAOFile}; un archivo escrito por esa clase se puede seguir usando con esta.
+ * </p>
+ * <ul>
+ *   <li>Guardar es O(1): la línea se acumula en memoria y se escribe en lotes, cuando hay
+ *   {@link #LOTE} pendientes o, en segundo plano, cada {@link #INTERVALO_MS} milisegundos.</li>
+ *   <li>Se mantiene en memoria un índice con el último resultado de cada algoritmo, que es lo que
+ *   devuelve {@link #findAll()}, sin leer el archivo.</li>
+ *   <li>Cada {@link #COMPACTAR_CADA} ejecuciones, el hilo de fondo compacta: descarta las líneas dañadas
+ *   (por ejemplo, una escritura cortada por un cierre abrupto) y guarda una instantánea del índice junto
+ *   con la posición del registro que cubre. Al abrir el DAO se carga la instantánea y solo se lee el
+ *   registro desde esa posición.</li>
+ * </ul>
+ * El historial completo de un algoritmo se obtiene con {@link #findHistory(String)}, que sí recorre el
+ * archivo.
+ */
+public class AlgorithmResultDAOLog implements AlgorithmResultDAO {
+    /** Cantidad de líneas pendientes que provoca una escritura inmediata. */
+    public static final int LOTE = 64;
+    /** Intervalo de las escrituras en segundo plano. */
+    public static final long INTERVALO_MS = 1000;
+    /** Ejecuciones registradas entre dos compactaciones. */
+    public static final int COMPACTAR_CADA = 1000;
+
+    /** El archivo de registro. */
+    private final Path log;
+    /** El archivo con la instantánea del índice. */
+    private final Path indice;
+    /** Último resultado de cada algoritmo, por nombre en minúsculas, en orden de primera aparición. */
+    private final Map<String, AlgorithmResult> ultimos = new LinkedHashMap<>();
+    /** Líneas guardadas que aún no se escribieron. */
+    private final StringBuilder pendientes = new StringBuilder();
+    /** Cantidad de líneas en {@link #pendientes}. */
+    private int nPendientes;
+    /** Ejecuciones registradas desde la última compactación. */
+    private int desdeCompactacion;
+    /** Líneas dañadas encontradas en el registro desde la última compactación. */
+    private int lineasDanadas;
+    /**
+     * `true` cuando ya se comprobó que el registro termina en un salto de línea (o se escribió uno). Un
+     * cierre abrupto puede dejar la última línea a medias; sin esa comprobación, la primera línea del
+     * siguiente lote quedaría pegada a ella y la compactación descartaría las dos.
+     */
+    private boolean finalRevisado;
+    /**
+     * Se incrementa en cada {@link #clear()}. La compactación copia el registro sin el candado; si en ese
+     * tiempo se borró el historial, su copia ya no vale y se descarta en lugar de reemplazar el registro.
+     */
+    private int generacion;
+    /** Hilo de fondo que escribe los lotes y compacta. */
+    private final ScheduledExecutorService tareas;
+
+    /**
+     * Abre (o crea al primer guardado) el registro en la ruta indicada y carga el índice.
+     *
+     * @param paramString Ruta del archivo de registro.
+     */
+    public AlgorithmResultDAOLog(String paramString) {
+        this.log = Paths.get(paramString);
+        this.indice = Paths.get(paramString + ".idx");
+        cargarIndice();
+        this.tareas = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "results-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tareas.scheduleWithFixedDelay(this::mantenimiento, INTERVALO_MS, INTERVALO_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registra una ejecución. Solo agrega la línea al lote pendiente y actualiza el índice; la escritura
+     * ocurre al completarse el lote o en segundo plano.
+     *
+     * @param paramAlgorithmResult Resultado a guardar.
+     */
+    @Override
+    public synchronized void save(AlgorithmResult paramAlgorithmResult) {
+        agregar(paramAlgorithmResult);
+        if (this.nPendientes >= LOTE)
+            flush();
+    }
+
+    /**
+     * Registra varias ejecuciones con una sola escritura.
+     *
+     * @param paramList Los resultados a guardar, en orden.
+     */
+    @Override
+    public synchronized void saveAll(List<AlgorithmResult> paramList) {
+        for (AlgorithmResult algorithmResult : paramList)
+            agregar(algorithmResult);
+        flush();
+    }
+
+    private void agregar(AlgorithmResult algorithmResult) {
+        this.pendientes.append(algorithmResult).append('\n');
+        this.nPendientes++;
+        this.desdeCompactacion++;
+        indexar(algorithmResult);
+    }
+
+    /**
+     * Devuelve el último resultado de cada algoritmo, desde el índice en memoria.
+     *
+     * @return Lista con un resultado por algoritmo.
+     */
+    @Override
+    public synchronized List<AlgorithmResult> findAll() {
+        return new ArrayList<>(this.ultimos.values());
+    }
+
+    /**
+     * Devuelve todas las ejecuciones registradas de un algoritmo, incluidas las pendientes de escribir.
+     *
+     * @param paramString El nombre del algoritmo (sin distinguir mayúsculas).
+     * @return Las ejecuciones del algoritmo, de la más antigua a la más reciente.
+     */
+    @Override
+    public synchronized List<AlgorithmResult> findHistory(String paramString) {
+        flush();
+        List<AlgorithmResult> results = new ArrayList<>();
+        if (!Files.exists(this.log))
+            return results;
+        try (BufferedReader reader = Files.newBufferedReader(this.log, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                AlgorithmResult algorithmResult = AlgorithmResult.parse(line);
+                if (algorithmResult != null && algorithmResult.getAlgorithmName().equalsIgnoreCase(paramString))
+                    results.add(algorithmResult);
+            }
+        } catch (IOException e) {
+            System.err.println("Error al leer el historial de resultados: " + e.getMessage());
+        }
+        return results;
+    }
+
+    /**
+     * Escribe al final del registro las líneas pendientes.
+     */
+    @Override
+    public synchronized void flush() {
+        if (this.nPendientes == 0)
+            return;
+        try {
+            boolean separar = !this.finalRevisado && !terminaEnLinea();
+            try (BufferedWriter writer = Files.newBufferedWriter(this.log, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (separar)
+                    writer.write('\n');
+                writer.append(this.pendientes);
+            }
+            this.finalRevisado = true;
+        } catch (IOException e) {
+            // Las líneas quedan pendientes para el siguiente intento.
+            System.err.println("Error al escribir el registro de resultados: " + e.getMessage());
+            return;
+        }
+        this.pendientes.setLength(0);
+        this.nPendientes = 0;
+    }
+
+    /**
+     * @return `true` si el registro no existe, está vacío o su último byte es un salto de línea.
+     */
+    private boolean terminaEnLinea() throws IOException {
+        if (!Files.exists(this.log))
+            return true;
+        try (FileChannel canal = FileChannel.open(this.log, StandardOpenOption.READ)) {
+            long tamanio = canal.size();
+            if (tamanio == 0)
+                return true;
+            ByteBuffer ultimo = ByteBuffer.allocate(1);
+            canal.read(ultimo, tamanio - 1);
+            return ultimo.get(0) == '\n';
+        }
+    }
+
+    /**
+     * Borra el historial completo, el índice y las líneas pendientes.
+     */
+    @Override
+    public synchronized void clear() {
+        this.pendientes.setLength(0);
+        this.nPendientes = 0;
+        this.desdeCompactacion = 0;
+        this.lineasDanadas = 0;
+        this.ultimos.clear();
+        this.generacion++;
+        try {
+            Files.deleteIfExists(this.indice);
+            Files.write(this.log, new byte[0]);
+        } catch (IOException e) {
+            System.err.println("Error al limpiar el registro de resultados: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tarea periódica del hilo de fondo: escribe el lote pendiente y compacta cuando corresponde.
+     */
+    private void mantenimiento() {
+        boolean compactar;
+        synchronized (this) {
+            flush();
+            compactar = this.desdeCompactacion >= COMPACTAR_CADA || this.lineasDanadas > 0;
+        }
+        if (compactar)
+            compactar();
+    }
+
+    /**
+     * Compacta el registro. Si se encontraron líneas dañadas, copia las válidas a un archivo temporal sin
+     * bloquear los guardados, agrega luego lo que se escribió mientras tanto y reemplaza el registro; si
+     * mientras tanto se llamó a {@link #clear()}, descarta la copia. Después guarda la instantánea del índice.
+     */
+    void compactar() {
+        try {
+            boolean reescribir;
+            long limite;
+            int copiada;
+            synchronized (this) {
+                flush();
+                copiada = this.generacion;
+                reescribir = this.lineasDanadas > 0 && Files.exists(this.log);
+                limite = reescribir ? Files.size(this.log) : 0;
+            }
+            Path temporal = null;
+            if (reescribir) {
+                temporal = Files.createTempFile(this.log.toAbsolutePath().getParent(), "results", ".tmp");
+                copiarLineasValidas(temporal, limite);
+            }
+            synchronized (this) {
+                flush();
+                if (temporal != null && copiada != this.generacion) {
+                    // El historial se borró durante la copia: no hay nada que conservar.
+                    Files.deleteIfExists(temporal);
+                } else if (temporal != null) {
+                    try (FileChannel origen = FileChannel.open(this.log, StandardOpenOption.READ);
+                         FileChannel destino = FileChannel.open(temporal, StandardOpenOption.APPEND)) {
+                        long tamanio = origen.size();
+                        for (long posicion = limite; posicion < tamanio; )
+                            posicion += origen.transferTo(posicion, tamanio - posicion, destino);
+                    }
+                    mover(temporal, this.log);
+                    this.lineasDanadas = 0;
+                }
+                guardarIndice();
+                this.desdeCompactacion = 0;
+            }
+        } catch (IOException e) {
+            System.err.println("Error al compactar el registro de resultados: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copia a `destino` las líneas válidas de los primeros `limite` bytes del registro.
+     */
+    private void copiarLineasValidas(Path destino, long limite) throws IOException {
+        try (InputStream entrada = new BufferedInputStream(Files.newInputStream(this.log));
+             OutputStream salida = new BufferedOutputStream(Files.newOutputStream(destino))) {
+            ByteArrayOutputStream linea = new ByteArrayOutputStream();
+            for (long i = 0; i < limite; i++) {
+                int b = entrada.read();
+                if (b < 0)
+                    break;
+                if (b != '\n') {
+                    linea.write(b);
+                    continue;
+                }
+                if (AlgorithmResult.parse(linea.toString(StandardCharsets.UTF_8)) != null) {
+                    linea.writeTo(salida);
+                    salida.write('\n');
+                }
+                linea.reset();
+            }
+        }
+    }
+
+    /**
+     * Escribe la instantánea del índice: la posición del registro que cubre y el último resultado de cada
+     * algoritmo. Se escribe en un temporal y se renombra, para no dejar nunca un índice a medias.
+     */
+    private void guardarIndice() throws IOException {
+        long posicion = Files.exists(this.log) ? Files.size(this.log) : 0;
+        StringBuilder contenido = new StringBuilder().append(posicion).append('\n');
+        for (AlgorithmResult algorithmResult : this.ultimos.values())
+            contenido.append(algorithmResult).append('\n');
+        Path temporal = Files.createTempFile(this.indice.toAbsolutePath().getParent(), "results", ".idx.tmp");
+        Files.write(temporal, contenido.toString().getBytes(StandardCharsets.UTF_8));
+        mover(temporal, this.indice);
+    }
+
+    /**
+     * Reconstruye el índice al abrir el DAO: carga la instantánea si existe y es coherente con el registro
+     * y lee solo lo que se agregó después; si no, recorre el registro completo.
+     */
+    private void cargarIndice() {
+        long desde = 0;
+        try {
+            if (Files.exists(this.indice) && Files.exists(this.log)) {
+                List<String> lineas = Files.readAllLines(this.indice, StandardCharsets.UTF_8);
+                long posicion = lineas.isEmpty() ? -1 : Long.parseLong(lineas.get(0).trim());
+                if (posicion >= 0 && posicion <= Files.size(this.log)) {
+                    for (int i = 1; i < lineas.size(); i++) {
+                        AlgorithmResult algorithmResult = AlgorithmResult.parse(lineas.get(i));
+                        if (algorithmResult != null)
+                            indexar(algorithmResult);
+                    }
+                    desde = posicion;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            this.ultimos.clear();
+            desde = 0;
+        }
+        if (!Files.exists(this.log))
+            return;
+        try (FileChannel canal = FileChannel.open(this.log, StandardOpenOption.READ);
+             BufferedReader reader = new BufferedReader(Channels.newReader(canal.position(desde), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                AlgorithmResult algorithmResult = AlgorithmResult.parse(line);
+                if (algorithmResult == null) {
+                    this.lineasDanadas++;
+                    continue;
+                }
+                indexar(algorithmResult);
+                this.desdeCompactacion++;
+            }
+        } catch (IOException e) {
+            System.err.println("Error al leer el registro de resultados: " + e.getMessage());
+        }
+    }
+
+    private void indexar(AlgorithmResult algorithmResult) {
+        this.ultimos.put(algorithmResult.getAlgorithmName().toLowerCase(Locale.ROOT), algorithmResult);
+    }
+
+    private static void mover(Path origen, Path destino) throws IOException {
+        try {
+            Files.move(origen, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(origen, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
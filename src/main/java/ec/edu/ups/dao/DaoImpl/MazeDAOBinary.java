@@ -0,0 +1,162 @@
+package ec.edu.ups.dao.DaoImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import ec.edu.ups.dao.MazeDAO;
+import ec.edu.ups.models.MazeGrid;
+
+/**
+ * Implementación de {@link MazeDAO} con un formato binario versionado, pensado para laberintos de
+ * cientos de millones de celdas. El archivo se lee mapeándolo en memoria con `FileChannel.map`, y los
+ * muros se copian en bloque entre el archivo y el `long[]` de la `MazeGrid`
+ * (ver {@link MazeGrid#readWalls(java.nio.LongBuffer)}); nunca se crean objetos `Cell`. Al guardar se
+ * escribe primero un archivo temporal en la misma carpeta y después se mueve sobre el destino, de modo
+ * que un fallo a mitad no deja un laberinto truncado y nunca se trunca un archivo que siga mapeado por
+ * una carga anterior.
+ * <p>
+ * Formato (little-endian):
+ * </p>
+ * <pre>
+ *   offset  tamaño  campo
+ *        0       4  número mágico "MAZE"
+ *        4       4  versión del formato (1)
+ *        8       4  filas
+ *       12       4  columnas
+ *       16       4  índice de inicio, o -1
+ *       20       4  índice de fin, o -1
+ *       24       4  CRC32 de los bytes 0..23 y de los muros
+ *       28       4  reservado (0)
+ *       32   8 * n  muros: n = ceil(filas * columnas / 64) palabras de 64 bits; el bit i es la celda i
+ * </pre>
+ */
+public class MazeDAOBinary implements MazeDAO {
+
+    /** Número mágico del formato: los bytes "MAZE" leídos como entero little-endian. */
+    public static final int MAGIC = 0x455A414D;
+    /** Versión actual del formato. */
+    public static final int VERSION = 1;
+    /** Extensión de archivo recomendada. */
+    public static final String EXTENSION = "maze";
+
+    /** Tamaño de la cabecera en bytes; mantiene los muros alineados a 8 bytes. */
+    private static final int CABECERA = 32;
+    /** Posición del CRC32 en la cabecera. */
+    private static final int POSICION_CRC = 24;
+
+    /**
+     * Guarda el laberinto en un archivo temporal junto al destino y lo mueve sobre él al terminar. El
+     * contenido se arma en un búfer (los muros ocupan un bit por celda) y se escribe con el canal, sin
+     * mapear el temporal, para que nada lo retenga al moverlo.
+     *
+     * @param paramMazeGrid El laberinto a guardar.
+     * @param paramFile El archivo de destino.
+     * @throws IOException si el archivo no se puede escribir.
+     */
+    @Override
+    public void save(MazeGrid paramMazeGrid, File paramFile) throws IOException {
+        long tamanio = CABECERA + 8L * paramMazeGrid.wallWords();
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) tamanio).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(paramMazeGrid.getRows())
+                .putInt(paramMazeGrid.getCols())
+                .putInt(paramMazeGrid.getStart())
+                .putInt(paramMazeGrid.getEnd())
+                .putInt(0)
+                .putInt(0);
+        paramMazeGrid.writeWalls(buffer.slice(CABECERA, (int) (tamanio - CABECERA))
+                .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
+        buffer.putInt(POSICION_CRC, (int) crc(buffer, tamanio));
+
+        Path destino = paramFile.toPath().toAbsolutePath();
+        Path temporal = Files.createTempFile(destino.getParent(), destino.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.WRITE)) {
+                buffer.clear();
+                while (buffer.hasRemaining())
+                    canal.write(buffer);
+                canal.force(true);
+            }
+            mover(temporal, destino);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * Carga un laberinto mapeando el archivo en memoria. Comprueba el número mágico, la versión, que el
+     * tamaño del archivo corresponda a las dimensiones, que el inicio y el fin estén dentro del laberinto
+     * y el CRC32 antes de construir la cuadrícula.
+     *
+     * @param paramFile El archivo a leer.
+     * @return El laberinto leído.
+     * @throws IOException si el archivo no se puede leer, no es un laberinto binario o está dañado.
+     */
+    @Override
+    public MazeGrid load(File paramFile) throws IOException {
+        try (FileChannel canal = FileChannel.open(paramFile.toPath(), StandardOpenOption.READ)) {
+            long tamanio = canal.size();
+            if (tamanio < CABECERA)
+                throw new IOException("El archivo " + paramFile + " no es un laberinto binario.");
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanio);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC)
+                throw new IOException("El archivo " + paramFile + " no es un laberinto binario.");
+            int version = buffer.getInt(4);
+            if (version != VERSION)
+                throw new IOException("Versión de laberinto no soportada: " + version);
+            int filas = buffer.getInt(8);
+            int columnas = buffer.getInt(12);
+            int inicio = buffer.getInt(16);
+            int fin = buffer.getInt(20);
+            long celdas = (long) filas * columnas;
+            if (filas <= 0 || columnas <= 0 || celdas > Integer.MAX_VALUE)
+                throw new IOException("Dimensiones inválidas: " + filas + "x" + columnas);
+            if (tamanio != CABECERA + 8 * ((celdas + 63) >>> 6))
+                throw new IOException("El tamaño del archivo no corresponde a un laberinto de " + filas + "x" + columnas);
+            if (inicio < MazeGrid.NONE || inicio >= celdas || fin < MazeGrid.NONE || fin >= celdas)
+                throw new IOException("Inicio o fin fuera del laberinto.");
+            if ((int) crc(buffer, tamanio) != buffer.getInt(POSICION_CRC))
+                throw new IOException("El archivo " + paramFile + " está dañado (CRC32 no coincide).");
+
+            MazeGrid grid = new MazeGrid(filas, columnas);
+            grid.readWalls(buffer.slice(CABECERA, (int) (tamanio - CABECERA))
+                    .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
+            if (inicio != MazeGrid.NONE)
+                grid.setStart(inicio);
+            if (fin != MazeGrid.NONE)
+                grid.setEnd(fin);
+            return grid;
+        }
+    }
+
+    /**
+     * Calcula el CRC32 de la cabecera (sin el propio CRC ni el campo reservado) y de los muros. Trabaja
+     * sobre vistas del búfer, así que no copia el archivo.
+     */
+    private static long crc(ByteBuffer buffer, long tamanio) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, POSICION_CRC));
+        crc.update(buffer.slice(CABECERA, (int) (tamanio - CABECERA)));
+        return crc.getValue();
+    }
+
+    private static void mover(Path origen, Path destino) throws IOException {
+        try {
+            Files.move(origen, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(origen, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ec.edu.ups.dao;
+
+import java.io.File;
+import java.io.IOException;
+import ec.edu.ups.models.MazeGrid;
+
+/**
+ * Interfaz que define cómo se guardan y se cargan laberintos completos (dimensiones, muros, inicio y fin).
+ * <p>
+ * A diferencia de {@link AlgorithmResultDAO}, cada operación recibe el archivo, porque cada laberinto se
+ * guarda en el suyo. Los errores de lectura o escritura se propagan: un laberinto que no se pudo cargar
+ * no tiene un valor razonable por defecto.
+ * </p>
+ */
+public interface MazeDAO {
+
+    /**
+     * Guarda un laberinto, reemplazando el archivo si ya existe.
+     *
+     * @param paramMazeGrid El laberinto a guardar.
+     * @param paramFile El archivo de destino.
+     * @throws IOException si el archivo no se puede escribir.
+     */
+    void save(MazeGrid paramMazeGrid, File paramFile) throws IOException;
+
+    /**
+     * Carga un laberinto guardado con {@link #save(MazeGrid, File)}.
+     *
+     * @param paramFile El archivo a leer.
+     * @return Un laberinto nuevo, independiente del archivo.
+     * @throws IOException si el archivo no se puede leer, no tiene el formato esperado o está dañado.
+     */
+    MazeGrid load(File paramFile) throws IOException;
+}
@@ -0,0 +1,59 @@
+package ec.edu.ups.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import ec.edu.ups.generator.generatorImpl.*;
+
+/**
+ * `GeneratorRegistry` reúne los generadores de laberintos disponibles con el nombre con el que se
+ * muestran en la interfaz, igual que `SolverRegistry` con los solucionadores.
+ */
+public final class GeneratorRegistry {
+    /** Densidad de muros del relleno aleatorio registrado. */
+    public static final double DENSIDAD_POR_DEFECTO = 0.3;
+
+    /** Fábricas de generadores por nombre, en el orden en que se muestran. */
+    private static final Map<String, Supplier<MazeGenerator>> FABRICAS = new LinkedHashMap<>();
+
+    static {
+        FABRICAS.put("Backtracking recursivo", MazeGeneratorBacktracking::new);
+        FABRICAS.put("Prim aleatorio", MazeGeneratorPrim::new);
+        FABRICAS.put("Kruskal aleatorio", MazeGeneratorKruskal::new);
+        FABRICAS.put("División recursiva", MazeGeneratorDivisionRecursiva::new);
+        FABRICAS.put("Relleno aleatorio", () -> new MazeGeneratorAleatorio(DENSIDAD_POR_DEFECTO));
+    }
+
+    private GeneratorRegistry() {
+    }
+
+    /** @return Los nombres de todos los generadores registrados, en orden de presentación. */
+    public static List<String> names() {
+        return Collections.unmodifiableList(new ArrayList<>(FABRICAS.keySet()));
+    }
+
+    /**
+     * @param name El nombre de un generador.
+     * @return `true` si hay un generador registrado con ese nombre.
+     */
+    public static boolean contains(String name) {
+        return FABRICAS.containsKey(name);
+    }
+
+    /**
+     * Crea una instancia del generador indicado.
+     *
+     * @param name El nombre del generador.
+     * @return El generador.
+     * @throws IllegalArgumentException si no hay ningún generador con ese nombre.
+     */
+    public static MazeGenerator create(String name) {
+        Supplier<MazeGenerator> fabrica = FABRICAS.get(name);
+        if (fabrica == null)
+            throw new IllegalArgumentException("Generador desconocido: " + name);
+        return fabrica.get();
+    }
+}
@@ -0,0 +1,26 @@
+package ec.edu.ups.generator;
+
+import ec.edu.ups.models.MazeGrid;
+
+/**
+ * La interfaz `MazeGenerator` define el contrato de los generadores de laberintos. Un generador escribe
+ * directamente en una `MazeGrid` (bits de muros), sin crear objetos por celda, y es determinista: la
+ * misma semilla y las mismas dimensiones producen siempre el mismo laberinto.
+ * <p>
+ * Los generadores de laberintos perfectos usan como salas las celdas de fila y columna pares y como
+ * muros o pasillos las impares; si una dimensión es par, la última fila o columna queda como borde de
+ * muros. El inicio queda en la esquina superior izquierda y el fin en la última sala.
+ * </p>
+ */
+public interface MazeGenerator {
+
+    /**
+     * Genera un laberinto nuevo.
+     *
+     * @param rows Número de filas.
+     * @param cols Número de columnas.
+     * @param seed Semilla del generador pseudoaleatorio.
+     * @return Una cuadrícula con los muros generados y el inicio y el fin definidos.
+     */
+    MazeGrid generate(int rows, int cols, long seed);
+}
@@ -0,0 +1,48 @@
+package ec.edu.ups.generator.generatorImpl;
+
+import java.util.SplittableRandom;
+import ec.edu.ups.generator.MazeGenerator;
+import ec.edu.ups.models.MazeGrid;
+
+/**
+ * `MazeGeneratorAleatorio` reparte muros al azar: cada celda es un muro con la probabilidad indicada.
+ * No es un laberinto perfecto; puede tener ciclos, salas abiertas y, con densidades altas, ningún camino
+ * entre el inicio y el fin. El inicio queda en la esquina superior izquierda y el fin en la inferior
+ * derecha, ambos sin muro.
+ */
+public class MazeGeneratorAleatorio implements MazeGenerator {
+    /** Proporción de celdas que serán muros. */
+    private final double densidad;
+
+    /**
+     * @param densidad Proporción de muros, entre 0 y 1.
+     * @throws IllegalArgumentException si la densidad está fuera de rango.
+     */
+    public MazeGeneratorAleatorio(double densidad) {
+        if (densidad < 0 || densidad > 1)
+            throw new IllegalArgumentException("Densidad inválida: " + densidad);
+        this.densidad = densidad;
+    }
+
+    @Override
+    public MazeGrid generate(int rows, int cols, long seed) {
+        MazeGrid grid = new MazeGrid(rows, cols);
+        grid.fill(false);
+        SplittableRandom random = new SplittableRandom(seed);
+        int n = grid.size();
+        for (int i = 0; i < n; i++) {
+            if (random.nextDouble() < this.densidad)
+                grid.setWall(i, true);
+        }
+        grid.setWall(0, false);
+        grid.setWall(n - 1, false);
+        grid.setStart(0);
+        grid.setEnd(n - 1);
+        return grid;
+    }
+
+    /** @return La proporción de muros. */
+    public double getDensidad() {
+        return this.densidad;
+    }
+}
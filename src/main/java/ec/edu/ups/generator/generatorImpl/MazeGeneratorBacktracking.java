@@ -0,0 +1,44 @@
+package ec.edu.ups.generator.generatorImpl;
+
+import java.util.SplittableRandom;
+
+/**
+ * `MazeGeneratorBacktracking` genera un laberinto perfecto con el *recursive backtracker*: avanza desde
+ * la sala actual hacia una vecina al azar que aún no se abrió, y cuando no quedan vecinas cerradas
+ * retrocede. Produce pasillos largos y con pocas bifurcaciones.
+ * <p>
+ * La versión es iterativa y no usa pila: cada sala guarda en un byte la dirección por la que se llegó a
+ * ella, y el retroceso sigue esas direcciones. Saber si una sala fue visitada no cuesta memoria extra,
+ * porque equivale a que su celda ya no sea un muro.
+ * </p>
+ */
+public class MazeGeneratorBacktracking extends MazeGeneratorSalas {
+
+    @Override
+    void tallar(SplittableRandom random) {
+        byte[] llegada = new byte[salas()];
+        int[] candidatas = new int[4];
+        int actual = 0;
+        abrirSala(actual);
+        while (true) {
+            int n = 0;
+            for (int d = 0; d < 4; d++) {
+                int v = vecina(actual, d);
+                if (v != -1 && !estaAbierta(v))
+                    candidatas[n++] = d;
+            }
+            if (n > 0) {
+                int d = candidatas[random.nextInt(n)];
+                int siguiente = vecina(actual, d);
+                abrirPasillo(actual, siguiente);
+                // Se guarda la dirección opuesta, la que lleva de vuelta.
+                llegada[siguiente] = (byte) (d ^ 1);
+                actual = siguiente;
+            } else if (actual == 0) {
+                return;
+            } else {
+                actual = vecina(actual, llegada[actual]);
+            }
+        }
+    }
+}
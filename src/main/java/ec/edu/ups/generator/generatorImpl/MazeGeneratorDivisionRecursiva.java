@@ -0,0 +1,83 @@
+package ec.edu.ups.generator.generatorImpl;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * `MazeGeneratorDivisionRecursiva` genera un laberinto perfecto por división recursiva: empieza con todas
+ * las salas comunicadas y divide cada cámara con una pared recta (en una fila o columna impar) que deja
+ * un único hueco en una sala, hasta que las cámaras tienen una sola sala de ancho. Las paredes se
+ * orientan a lo ancho de la cámara más larga, lo que da laberintos de aspecto rectangular.
+ * <p>
+ * La recursión se reemplaza por una pila explícita de cámaras en un `int[]`, así que la profundidad no
+ * depende de la pila del hilo.
+ * </p>
+ */
+public class MazeGeneratorDivisionRecursiva extends MazeGeneratorSalas {
+
+    @Override
+    void tallar(SplittableRandom random) {
+        // Se abre todo el interior: salas y pasillos. Solo los pilares (fila y columna impares) y el borde
+        // extra de una dimensión par quedan como muros.
+        int columnas = this.grid.getCols();
+        int ultimaFila = 2 * (this.filasSalas - 1);
+        int ultimaColumna = 2 * (this.columnasSalas - 1);
+        for (int r = 0; r <= ultimaFila; r++) {
+            for (int c = 0; c <= ultimaColumna; c++) {
+                if ((r & 1) == 0 || (c & 1) == 0)
+                    this.grid.setWall(r * columnas + c, false);
+            }
+        }
+
+        // Cada cámara son cuatro enteros: primera y última fila de salas, primera y última columna.
+        int[] pila = new int[64];
+        int tope = 0;
+        pila[tope++] = 0;
+        pila[tope++] = this.filasSalas - 1;
+        pila[tope++] = 0;
+        pila[tope++] = this.columnasSalas - 1;
+        while (tope > 0) {
+            int c1 = pila[--tope];
+            int c0 = pila[--tope];
+            int f1 = pila[--tope];
+            int f0 = pila[--tope];
+            int alto = f1 - f0 + 1;
+            int ancho = c1 - c0 + 1;
+            if (alto < 2 || ancho < 2)
+                continue;
+            if (pila.length - tope < 8)
+                pila = Arrays.copyOf(pila, 2 * pila.length);
+            boolean horizontal = alto > ancho || (alto == ancho && random.nextBoolean());
+            if (horizontal) {
+                // Pared entre las filas de salas k y k + 1, con un hueco en la columna de salas g.
+                int k = f0 + random.nextInt(alto - 1);
+                int g = c0 + random.nextInt(ancho);
+                int fila = 2 * k + 1;
+                for (int c = 2 * c0; c <= 2 * c1; c++) {
+                    if (c != 2 * g)
+                        this.grid.setWall(fila * columnas + c, true);
+                }
+                tope = apilar(pila, tope, f0, k, c0, c1);
+                tope = apilar(pila, tope, k + 1, f1, c0, c1);
+            } else {
+                int k = c0 + random.nextInt(ancho - 1);
+                int g = f0 + random.nextInt(alto);
+                int columna = 2 * k + 1;
+                for (int r = 2 * f0; r <= 2 * f1; r++) {
+                    if (r != 2 * g)
+                        this.grid.setWall(r * columnas + columna, true);
+                }
+                tope = apilar(pila, tope, f0, f1, c0, k);
+                tope = apilar(pila, tope, f0, f1, k + 1, c1);
+            }
+        }
+    }
+
+    private static int apilar(int[] pila, int tope, int f0, int f1, int c0, int c1) {
+        pila[tope++] = f0;
+        pila[tope++] = f1;
+        pila[tope++] = c0;
+        pila[tope++] = c1;
+        return tope;
+    }
+}
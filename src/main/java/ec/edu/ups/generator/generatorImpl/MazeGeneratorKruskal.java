@@ -0,0 +1,98 @@
+package ec.edu.ups.generator.generatorImpl;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * `MazeGeneratorKruskal` genera un laberinto perfecto con la versión aleatoria del algoritmo de Kruskal:
+ * recorre todos los muros entre salas vecinas en orden aleatorio y derriba cada uno que separe dos
+ * componentes distintas. Produce un laberinto sin dirección dominante, con muchos callejones cortos.
+ * <p>
+ * Para no materializar ni barajar la lista de muros (que en un laberinto de 10.000 x 10.000 tendría
+ * 50 millones de entradas), el orden aleatorio se obtiene con una permutación pseudoaleatoria: una red
+ * de Feistel sobre el menor dominio de 2<sup>2k</sup> que contiene a todos los muros, con *cycle walking*
+ * para descartar los valores que caen fuera del rango. La unión-búsqueda usa un único `int[]`, donde
+ * las raíces guardan el tamaño de su componente en negativo (unión por tamaño y compresión de caminos).
+ * Aun así los accesos saltan por toda la cuadrícula, así que es el más lento de los generadores.
+ * </p>
+ */
+public class MazeGeneratorKruskal extends MazeGeneratorSalas {
+    /** Número de rondas de la red de Feistel. */
+    private static final int RONDAS = 3;
+
+    @Override
+    void tallar(SplittableRandom random) {
+        int n = salas();
+        for (int i = 0; i < n; i++)
+            abrirSala(i);
+        // Muros horizontales (entre (i, j) y (i, j + 1)) primero, luego los verticales.
+        long horizontales = (long) this.filasSalas * (this.columnasSalas - 1);
+        long total = horizontales + (long) (this.filasSalas - 1) * this.columnasSalas;
+        if (total == 0)
+            return;
+
+        int[] padre = new int[n];
+        Arrays.fill(padre, -1);
+        int bits = 64 - Long.numberOfLeadingZeros(total - 1);
+        int mitad = Math.max(1, (bits + 1) / 2);
+        long[] claves = new long[RONDAS];
+        for (int r = 0; r < RONDAS; r++)
+            claves[r] = random.nextLong();
+
+        for (long i = 0; i < total; i++) {
+            long muro = permutar(i, mitad, claves);
+            while (muro >= total)
+                muro = permutar(muro, mitad, claves);
+            int a;
+            int b;
+            if (muro < horizontales) {
+                int fila = (int) (muro / (this.columnasSalas - 1));
+                a = fila * this.columnasSalas + (int) (muro % (this.columnasSalas - 1));
+                b = a + 1;
+            } else {
+                a = (int) (muro - horizontales);
+                b = a + this.columnasSalas;
+            }
+            int raizA = buscar(padre, a);
+            int raizB = buscar(padre, b);
+            if (raizA == raizB)
+                continue;
+            if (padre[raizA] < padre[raizB]) {
+                int t = raizA;
+                raizA = raizB;
+                raizB = t;
+            }
+            padre[raizB] += padre[raizA];
+            padre[raizA] = raizB;
+            abrirPasillo(a, b);
+        }
+    }
+
+    /**
+     * Permuta un valor de `2 * mitad` bits con una red de Feistel; la función de cada ronda toma los bits
+     * altos de una multiplicación por la constante de Fibonacci.
+     */
+    private static long permutar(long x, int mitad, long[] claves) {
+        long mascara = (1L << mitad) - 1;
+        long izquierda = x >>> mitad;
+        long derecha = x & mascara;
+        for (long clave : claves) {
+            long nueva = izquierda ^ (((derecha ^ clave) * 0x9E3779B97F4A7C15L) >>> (64 - mitad));
+            izquierda = derecha;
+            derecha = nueva;
+        }
+        return (izquierda << mitad) | derecha;
+    }
+
+    private static int buscar(int[] padre, int x) {
+        int raiz = x;
+        while (padre[raiz] >= 0)
+            raiz = padre[raiz];
+        while (x != raiz) {
+            int siguiente = padre[x];
+            padre[x] = raiz;
+            x = siguiente;
+        }
+        return raiz;
+    }
+}
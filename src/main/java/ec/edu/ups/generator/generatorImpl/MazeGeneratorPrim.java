@@ -0,0 +1,64 @@
+package ec.edu.ups.generator.generatorImpl;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * `MazeGeneratorPrim` genera un laberinto perfecto con la versión aleatoria del algoritmo de Prim: se
+ * mantiene una frontera de salas cerradas vecinas del laberinto ya abierto; en cada paso se saca una al
+ * azar y se une con una de sus vecinas abiertas, también al azar. Produce muchos callejones cortos.
+ * <p>
+ * La frontera es un `int[]` del que se quita en O(1) intercambiando con el último elemento; el estado de
+ * cada sala (fuera, en la frontera o abierta) ocupa un byte.
+ * </p>
+ */
+public class MazeGeneratorPrim extends MazeGeneratorSalas {
+    /** Sala todavía no alcanzada. */
+    private static final byte FUERA = 0;
+    /** Sala en la frontera. */
+    private static final byte FRONTERA = 1;
+    /** Sala ya abierta. */
+    private static final byte DENTRO = 2;
+
+    @Override
+    void tallar(SplittableRandom random) {
+        byte[] estado = new byte[salas()];
+        int[] frontera = new int[64];
+        int tamanio = 0;
+        int[] candidatas = new int[4];
+
+        abrirSala(0);
+        estado[0] = DENTRO;
+        for (int d = 0; d < 4; d++) {
+            int v = vecina(0, d);
+            if (v != -1) {
+                estado[v] = FRONTERA;
+                frontera[tamanio++] = v;
+            }
+        }
+        while (tamanio > 0) {
+            int k = random.nextInt(tamanio);
+            int sala = frontera[k];
+            frontera[k] = frontera[--tamanio];
+
+            int n = 0;
+            for (int d = 0; d < 4; d++) {
+                int v = vecina(sala, d);
+                if (v != -1 && estado[v] == DENTRO)
+                    candidatas[n++] = v;
+            }
+            abrirPasillo(sala, candidatas[random.nextInt(n)]);
+            estado[sala] = DENTRO;
+
+            for (int d = 0; d < 4; d++) {
+                int v = vecina(sala, d);
+                if (v != -1 && estado[v] == FUERA) {
+                    estado[v] = FRONTERA;
+                    if (tamanio == frontera.length)
+                        frontera = Arrays.copyOf(frontera, 2 * frontera.length);
+                    frontera[tamanio++] = v;
+                }
+            }
+        }
+    }
+}
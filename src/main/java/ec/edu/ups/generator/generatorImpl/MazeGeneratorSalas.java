@@ -0,0 +1,96 @@
+package ec.edu.ups.generator.generatorImpl;
+
+import java.util.SplittableRandom;
+import ec.edu.ups.generator.MazeGenerator;
+import ec.edu.ups.models.MazeGrid;
+
+/**
+ * Base de los generadores de laberintos perfectos (un único camino entre cada par de salas).
+ * <p>
+ * Las salas son las celdas de fila y columna pares; la sala `(i, j)` es la celda `(2i, 2j)` y el pasillo
+ * entre dos salas vecinas es la celda intermedia. La cuadrícula empieza llena de muros y cada
+ * subclase abre salas y pasillos trabajando con índices de sala (`i * columnasSalas + j`).
+ * </p>
+ */
+abstract class MazeGeneratorSalas implements MazeGenerator {
+    /** Desplazamientos de fila de las cuatro direcciones: abajo, arriba, derecha, izquierda. */
+    static final int[] DF = {1, -1, 0, 0};
+    /** Desplazamientos de columna de las cuatro direcciones. */
+    static final int[] DC = {0, 0, 1, -1};
+
+    /** La cuadrícula en construcción. */
+    MazeGrid grid;
+    /** Número de filas de salas. */
+    int filasSalas;
+    /** Número de columnas de salas. */
+    int columnasSalas;
+
+    @Override
+    public MazeGrid generate(int rows, int cols, long seed) {
+        MazeGrid nueva = new MazeGrid(rows, cols);
+        nueva.fill(true);
+        this.grid = nueva;
+        this.filasSalas = (rows + 1) / 2;
+        this.columnasSalas = (cols + 1) / 2;
+        try {
+            tallar(new SplittableRandom(seed));
+        } finally {
+            this.grid = null;
+        }
+        nueva.setStart(0);
+        nueva.setEnd(nueva.index(2 * (this.filasSalas - 1), 2 * (this.columnasSalas - 1)));
+        return nueva;
+    }
+
+    /**
+     * Abre las salas y los pasillos del laberinto.
+     *
+     * @param random El generador pseudoaleatorio sembrado.
+     */
+    abstract void tallar(SplittableRandom random);
+
+    /** @return El número total de salas. */
+    int salas() {
+        return this.filasSalas * this.columnasSalas;
+    }
+
+    /**
+     * Devuelve la sala vecina en una dirección.
+     *
+     * @return El índice de la sala vecina, o -1 si queda fuera del laberinto.
+     */
+    int vecina(int sala, int d) {
+        int i = sala / this.columnasSalas + DF[d];
+        int j = sala % this.columnasSalas + DC[d];
+        if (i < 0 || i >= this.filasSalas || j < 0 || j >= this.columnasSalas)
+            return -1;
+        return i * this.columnasSalas + j;
+    }
+
+    /** Abre la celda de una sala. */
+    void abrirSala(int sala) {
+        this.grid.setWall(celdaDe(sala), false);
+    }
+
+    /** @return `true` si la sala ya fue abierta. */
+    boolean estaAbierta(int sala) {
+        return !this.grid.isWall(celdaDe(sala));
+    }
+
+    /** Abre el pasillo entre dos salas vecinas (y ambas salas). */
+    void abrirPasillo(int a, int b) {
+        int celdaA = celdaDe(a);
+        int celdaB = celdaDe(b);
+        this.grid.setWall(celdaA, false);
+        this.grid.setWall(celdaB, false);
+        // La celda intermedia está a mitad de camino tanto en fila como en columna.
+        int fila = (this.grid.rowOf(celdaA) + this.grid.rowOf(celdaB)) / 2;
+        int columna = (this.grid.colOf(celdaA) + this.grid.colOf(celdaB)) / 2;
+        this.grid.setWall(this.grid.index(fila, columna), false);
+    }
+
+    /** @return El índice de celda de una sala. */
+    int celdaDe(int sala) {
+        return this.grid.index(2 * (sala / this.columnasSalas), 2 * (sala % this.columnasSalas));
+    }
+}
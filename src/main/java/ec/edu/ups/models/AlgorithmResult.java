@@ -4,11 +4,47 @@ public class AlgorithmResult {
     private String algorithmName;
     private int pathSize;
     private long timeNs;
+    /** Huella de Zobrist del laberinto resuelto, o 0 si no se registró. */
+    private long mazeFingerprint;
+    /** Momento de la ejecución en milisegundos desde la época Unix, o 0 si no se registró. */
+    private long timestamp;
 
     public AlgorithmResult(String algorithmName, int pathSize, long timeNs) {
+        this(algorithmName, pathSize, timeNs, 0L);
+    }
+
+    public AlgorithmResult(String algorithmName, int pathSize, long timeNs, long mazeFingerprint) {
+        this(algorithmName, pathSize, timeNs, mazeFingerprint, 0L);
+    }
+
+    public AlgorithmResult(String algorithmName, int pathSize, long timeNs, long mazeFingerprint, long timestamp) {
         this.algorithmName = algorithmName;
         this.pathSize = pathSize;
         this.timeNs = timeNs;
+        this.mazeFingerprint = mazeFingerprint;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Interpreta una línea en el formato de {@link #toString()}:
+     * `nombre,celdas,tiempo[,huella[,momento]]`. Acepta las líneas antiguas de tres o cuatro campos.
+     *
+     * @param line La línea a interpretar.
+     * @return El resultado, o `null` si la línea no tiene un formato válido.
+     */
+    public static AlgorithmResult parse(String line) {
+        String[] parts = line.split(",");
+        if (parts.length < 3 || parts.length > 5)
+            return null;
+        try {
+            int cells = Integer.parseInt(parts[1]);
+            long time = Long.parseLong(parts[2]);
+            long fingerprint = parts.length >= 4 ? Long.parseUnsignedLong(parts[3], 16) : 0L;
+            long timestamp = parts.length == 5 ? Long.parseLong(parts[4]) : 0L;
+            return new AlgorithmResult(parts[0], cells, time, fingerprint, timestamp);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     public String getAlgorithmName() {
@@ -23,6 +59,14 @@ public class AlgorithmResult {
         return timeNs;
     }
 
+    public long getMazeFingerprint() {
+        return mazeFingerprint;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
     public void setAlgorithmName(String algorithmName) {
         this.algorithmName = algorithmName;
     }
@@ -35,8 +79,20 @@ public class AlgorithmResult {
         this.timeNs = timeNs;
     }
 
+    public void setMazeFingerprint(long mazeFingerprint) {
+        this.mazeFingerprint = mazeFingerprint;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
     @Override
     public String toString() {
-        return algorithmName + "," + pathSize + "," + timeNs;
+        if (timestamp != 0L)
+            return algorithmName + "," + pathSize + "," + timeNs + "," + Long.toHexString(mazeFingerprint) + "," + timestamp;
+        if (mazeFingerprint == 0L)
+            return algorithmName + "," + pathSize + "," + timeNs;
+        return algorithmName + "," + pathSize + "," + timeNs + "," + Long.toHexString(mazeFingerprint);
     }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package ec.edu.ups.models;
+
+import java.util.Arrays;
+
+/**
+ * La clase `ConnectivityIndex` mantiene las componentes conexas de las celdas transitables de una
+ * `MazeGrid` con una estructura *union-find* (padres en un `int[]`, rango en un `byte[]`, compresión
+ * de caminos por mitades). Permite responder en tiempo casi constante si dos celdas pueden estar
+ * conectadas, para que un solucionador devuelva "sin camino" sin recorrer toda la región alcanzable.
+ * <p>
+ * Se actualiza como `MazeChangeListener`:
+ * </p>
+ * <ul>
+ *   <li>Quitar un muro une la celda con sus vecinos transitables, en O(α(n)).</li>
+ *   <li>Poner un muro no puede deshacerse en un *union-find*. Si los vecinos transitables de la celda
+ *   siguen unidos por el anillo de ocho celdas que la rodea, el muro no separa nada y el índice no
+ *   cambia; si no, el índice se marca como desactualizado y se reconstruye entero en la siguiente
+ *   consulta.</li>
+ * </ul>
+ * El índice puede responder que dos celdas están conectadas cuando en realidad ya no lo están (un muro
+ * que no se reconstruyó deja uniones viejas); en ese caso el solucionador simplemente busca y no encuentra
+ * camino. Nunca responde que están separadas dos celdas conectadas.
+ * <p>
+ * Los métodos públicos están sincronizados: las vistas de la cuadrícula creadas con
+ * `MazeGrid.withEndpoints` comparten el índice y pueden consultarlo desde varios hilos.
+ * </p>
+ */
+public class ConnectivityIndex implements MazeChangeListener {
+    /** Desplazamientos de fila del anillo de ocho vecinos, en sentido horario desde arriba. */
+    private static final int[] ANILLO_FILAS = {-1, -1, 0, 1, 1, 1, 0, -1};
+    /** Desplazamientos de columna del anillo de ocho vecinos. */
+    private static final int[] ANILLO_COLUMNAS = {0, 1, 1, 1, 0, -1, -1, -1};
+
+    /** La cuadrícula indexada. */
+    private final MazeGrid grid;
+    /** Padre de cada celda en el bosque de conjuntos. */
+    private final int[] padre;
+    /** Cota superior de la altura de cada raíz. */
+    private final byte[] rango;
+    /** Indica que algún muro nuevo pudo separar componentes y hay que reconstruir. */
+    private boolean desactualizado;
+
+    /**
+     * Construye el índice sobre una cuadrícula y lo calcula por primera vez.
+     *
+     * @param grid La cuadrícula a indexar.
+     */
+    public ConnectivityIndex(MazeGrid grid) {
+        this.grid = grid;
+        this.padre = new int[grid.size()];
+        this.rango = new byte[grid.size()];
+        rebuild();
+    }
+
+    /**
+     * Recalcula todas las componentes desde cero uniendo cada celda transitable con sus vecinas
+     * de la derecha y de abajo.
+     */
+    public synchronized void rebuild() {
+        int filas = this.grid.getRows();
+        int columnas = this.grid.getCols();
+        for (int i = 0; i < this.padre.length; i++)
+            this.padre[i] = i;
+        Arrays.fill(this.rango, (byte) 0);
+        for (int f = 0; f < filas; f++) {
+            int base = f * columnas;
+            for (int c = 0; c < columnas; c++) {
+                int i = base + c;
+                if (this.grid.isWall(i))
+                    continue;
+                if (c + 1 < columnas && !this.grid.isWall(i + 1))
+                    unir(i, i + 1);
+                if (f + 1 < filas && !this.grid.isWall(i + columnas))
+                    unir(i, i + columnas);
+            }
+        }
+        this.desactualizado = false;
+    }
+
+    /**
+     * Indica si dos celdas pueden estar en la misma componente. Si el índice quedó desactualizado por
+     * un muro nuevo, primero se reconstruye.
+     *
+     * @param a Índice de la primera celda.
+     * @param b Índice de la segunda celda.
+     * @return `false` solo si es seguro que no existe un camino entre ambas celdas.
+     */
+    public synchronized boolean connected(int a, int b) {
+        if (a == b)
+            return true;
+        if (this.grid.isWall(a) || this.grid.isWall(b))
+            return false;
+        if (this.desactualizado)
+            rebuild();
+        return raiz(a) == raiz(b);
+    }
+
+    /** @return `true` si la próxima consulta provocará una reconstrucción completa. */
+    public synchronized boolean isStale() {
+        return this.desactualizado;
+    }
+
+    @Override
+    public synchronized void wallChanged(int row, int col, boolean wall) {
+        if (this.desactualizado)
+            return;
+        int columnas = this.grid.getCols();
+        int indice = row * columnas + col;
+        if (wall) {
+            if (puedeSeparar(row, col))
+                this.desactualizado = true;
+            return;
+        }
+        if (this.grid.isOpen(row + 1, col))
+            unir(indice, indice + columnas);
+        if (this.grid.isOpen(row - 1, col))
+            unir(indice, indice - columnas);
+        if (this.grid.isOpen(row, col + 1))
+            unir(indice, indice + 1);
+        if (this.grid.isOpen(row, col - 1))
+            unir(indice, indice - 1);
+    }
+
+    /**
+     * Comprueba localmente si un muro recién puesto podría separar a sus vecinos transitables.
+     * Recorre el anillo de ocho celdas alrededor (en el que cada celda es vecina ortogonal de la
+     * siguiente) y cuenta los tramos abiertos que tocan a algún vecino ortogonal: con un solo tramo,
+     * los vecinos siguen conectados sin pasar por la celda.
+     *
+     * @return `true` si hay más de un tramo y el muro podría haber partido una componente.
+     */
+    private boolean puedeSeparar(int fila, int columna) {
+        boolean[] abierta = new boolean[8];
+        int primeraCerrada = -1;
+        for (int k = 0; k < 8; k++) {
+            abierta[k] = this.grid.isOpen(fila + ANILLO_FILAS[k], columna + ANILLO_COLUMNAS[k]);
+            if (!abierta[k] && primeraCerrada == -1)
+                primeraCerrada = k;
+        }
+        if (primeraCerrada == -1)
+            return false;
+        int tramos = 0;
+        boolean tocaVecino = false;
+        for (int paso = 1; paso <= 8; paso++) {
+            int k = (primeraCerrada + paso) % 8;
+            if (abierta[k]) {
+                // Las posiciones pares del anillo son los vecinos ortogonales.
+                if ((k & 1) == 0)
+                    tocaVecino = true;
+            } else if (tocaVecino) {
+                tramos++;
+                tocaVecino = false;
+            }
+        }
+        return tramos > 1;
+    }
+
+    /**
+     * Busca la raíz del conjunto de una celda, acortando el camino por mitades.
+     */
+    private int raiz(int i) {
+        while (this.padre[i] != i) {
+            this.padre[i] = this.padre[this.padre[i]];
+            i = this.padre[i];
+        }
+        return i;
+    }
+
+    /**
+     * Une los conjuntos de dos celdas por rango.
+     */
+    private void unir(int a, int b) {
+        int ra = raiz(a);
+        int rb = raiz(b);
+        if (ra == rb)
+            return;
+        if (this.rango[ra] < this.rango[rb]) {
+            this.padre[ra] = rb;
+        } else if (this.rango[ra] > this.rango[rb]) {
+            this.padre[rb] = ra;
+        } else {
+            this.padre[rb] = ra;
+            this.rango[ra]++;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ec.edu.ups.models;
+
+/**
+ * Interfaz para los componentes que necesitan enterarse de cada edición del laberinto
+ * (por ejemplo, índices o estructuras auxiliares que se mantienen de forma incremental).
+ * El controlador la invoca después de aplicar el cambio en la `MazeGrid`, de modo que quien la
+ * implementa ya ve el estado nuevo.
+ */
+public interface MazeChangeListener {
+
+    /**
+     * Se invoca cuando una celda pasa a ser muro o deja de serlo.
+     *
+     * @param row Fila de la celda.
+     * @param col Columna de la celda.
+     * @param wall `true` si la celda ahora es un muro, `false` si ahora es transitable.
+     */
+    void wallChanged(int row, int col, boolean wall);
+
+    /**
+     * Se invoca cuando cambia la celda de inicio.
+     *
+     * @param row Fila de la nueva celda de inicio.
+     * @param col Columna de la nueva celda de inicio.
+     */
+    default void startChanged(int row, int col) {
+    }
+
+    /**
+     * Se invoca cuando cambia la celda de fin.
+     *
+     * @param row Fila de la nueva celda de fin.
+     * @param col Columna de la nueva celda de fin.
+     */
+    default void endChanged(int row, int col) {
+    }
+}
@@ -0,0 +1,464 @@
+package ec.edu.ups.models;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * La clase `MazeGrid` es una representación compacta del laberinto pensada para los solucionadores.
+ * En lugar de una matriz de objetos `Cell`, guarda los muros como un conjunto de bits (`long[]`),
+ * un bit por celda, y las celdas de inicio y fin como índices enteros empaquetados
+ * (`fila * columnas + columna`). Así los algoritmos recorren memoria primitiva y contigua
+ * en vez de seguir referencias a millones de objetos.
+ * <p>
+ * Opcionalmente puede llevar asociada la matriz de `Cell` de la que proviene (por ejemplo, la de
+ * `MazePanel`). En ese caso {@link #cellAt(int)} y {@link #toCells()} devuelven esas mismas
+ * instancias sin copiarlas, de modo que los resultados siguen apuntando a las celdas de la vista.
+ * El mantenimiento de la sincronía entre la matriz asociada y los bits es responsabilidad de quien
+ * modifica el laberinto (el controlador).
+ * </p>
+ * <p>
+ * La cuadrícula mantiene además una huella de Zobrist de 64 bits de su estado (dimensiones, muros,
+ * inicio y fin), que se actualiza en O(1) con cada cambio. Sirve como identidad barata del laberinto
+ * para cachés y registros de resultados. Las claves aleatorias de cada celda no se guardan en una
+ * tabla: se derivan del índice con la función de mezcla de *SplitMix64*. Tras un cambio masivo con
+ * {@link #fill(boolean)} la huella se recalcula una sola vez, la próxima vez que se consulte.
+ * </p>
+ */
+public class MazeGrid {
+    /** Valor usado para indicar que no hay celda de inicio o de fin. */
+    public static final int NONE = -1;
+    /** Clase de clave de Zobrist para un muro. */
+    private static final int ZOBRIST_MURO = 0;
+    /** Clase de clave de Zobrist para el inicio. */
+    private static final int ZOBRIST_INICIO = 1;
+    /** Clase de clave de Zobrist para el fin. */
+    private static final int ZOBRIST_FIN = 2;
+
+    /** Número de filas del laberinto. */
+    private final int rows;
+    /** Número de columnas del laberinto. */
+    private final int cols;
+    /** Conjunto de bits de muros: el bit `i` está encendido si la celda de índice `i` es un muro. */
+    private final long[] walls;
+    /** Índice de la celda de inicio o {@link #NONE}. */
+    private int start = NONE;
+    /** Índice de la celda de fin o {@link #NONE}. */
+    private int end = NONE;
+    /** Matriz de celdas asociada (vista sin copia), o `null` si la cuadrícula es independiente. */
+    private Cell[][] cells;
+    /** Índice de componentes conexas asociado, o `null` si no se mantiene ninguno. */
+    private ConnectivityIndex connectivity;
+    /** Huella de Zobrist del estado actual; solo es válida si {@link #huellaVigente} es `true`. */
+    private long fingerprint;
+    /** `false` si la huella debe recalcularse antes de usarse. */
+    private boolean huellaVigente = true;
+
+    /**
+     * Construye una cuadrícula vacía (sin muros) con las dimensiones indicadas.
+     *
+     * @param rows Número de filas; debe ser mayor que cero.
+     * @param cols Número de columnas; debe ser mayor que cero.
+     * @throws IllegalArgumentException si las dimensiones no son válidas o exceden el rango de un índice `int`.
+     */
+    public MazeGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0)
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        if ((long) rows * cols > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("El laberinto es demasiado grande: " + rows + "x" + cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = new long[(int) (((long) rows * cols + 63) >>> 6)];
+        this.fingerprint = mezclar(((long) rows << 32) | cols);
+    }
+
+    /**
+     * Construye una cuadrícula que comparte los muros y la matriz asociada de otra.
+     *
+     * @param base La cuadrícula cuyos datos se comparten.
+     */
+    private MazeGrid(MazeGrid base) {
+        this.rows = base.rows;
+        this.cols = base.cols;
+        this.walls = base.walls;
+        this.cells = base.cells;
+        this.connectivity = base.connectivity;
+        this.fingerprint = base.fingerprint;
+        this.huellaVigente = base.huellaVigente;
+        this.start = base.start;
+        this.end = base.end;
+    }
+
+    /**
+     * Crea una cuadrícula a partir de una matriz de `Cell`, asociándola como vista sin copia.
+     * Los muros se leen del estado de cada celda; el inicio y el fin se toman de los parámetros.
+     *
+     * @param cells La matriz de celdas del laberinto.
+     * @param startCell La celda de inicio, o `null` si aún no se ha definido.
+     * @param endCell La celda de fin, o `null` si aún no se ha definido.
+     * @return Una nueva `MazeGrid` equivalente a la matriz.
+     */
+    public static MazeGrid fromCells(Cell[][] cells, Cell startCell, Cell endCell) {
+        MazeGrid grid = new MazeGrid(cells.length, cells[0].length);
+        for (int r = 0; r < grid.rows; r++) {
+            Cell[] fila = cells[r];
+            for (int c = 0; c < grid.cols; c++) {
+                if (fila[c].state == CellState.WALL)
+                    grid.setWall(r * grid.cols + c, true);
+            }
+        }
+        if (startCell != null)
+            grid.setStart(grid.index(startCell.row, startCell.col));
+        if (endCell != null)
+            grid.setEnd(grid.index(endCell.row, endCell.col));
+        grid.cells = cells;
+        return grid;
+    }
+
+    /** @return El número de filas. */
+    public int getRows() {
+        return this.rows;
+    }
+
+    /** @return El número de columnas. */
+    public int getCols() {
+        return this.cols;
+    }
+
+    /** @return El número total de celdas (`filas * columnas`). */
+    public int size() {
+        return this.rows * this.cols;
+    }
+
+    /**
+     * Convierte coordenadas de fila y columna en el índice empaquetado de la celda.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @return El índice `row * cols + col`.
+     */
+    public int index(int row, int col) {
+        return row * this.cols + col;
+    }
+
+    /**
+     * @param index Índice de una celda.
+     * @return La fila de la celda.
+     */
+    public int rowOf(int index) {
+        return index / this.cols;
+    }
+
+    /**
+     * @param index Índice de una celda.
+     * @return La columna de la celda.
+     */
+    public int colOf(int index) {
+        return index % this.cols;
+    }
+
+    /**
+     * Indica si unas coordenadas están dentro de los límites del laberinto.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @return `true` si la posición existe en la cuadrícula.
+     */
+    public boolean contains(int row, int col) {
+        return row >= 0 && row < this.rows && col >= 0 && col < this.cols;
+    }
+
+    /**
+     * @param index Índice de una celda válida.
+     * @return `true` si la celda es un muro.
+     */
+    public boolean isWall(int index) {
+        return (this.walls[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Equivalente al `isValid` de los solucionadores: la celda existe y no es un muro.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @return `true` si la celda puede ser recorrida.
+     */
+    public boolean isOpen(int row, int col) {
+        return contains(row, col) && !isWall(row * this.cols + col);
+    }
+
+    /**
+     * Marca o desmarca una celda como muro. No modifica la matriz de `Cell` asociada.
+     *
+     * @param index Índice de la celda.
+     * @param wall `true` para convertirla en muro, `false` para dejarla transitable.
+     */
+    public void setWall(int index, boolean wall) {
+        if (isWall(index) == wall)
+            return;
+        if (wall)
+            this.walls[index >>> 6] |= 1L << index;
+        else
+            this.walls[index >>> 6] &= ~(1L << index);
+        if (this.huellaVigente)
+            this.fingerprint ^= claveZobrist(index, ZOBRIST_MURO);
+    }
+
+    /**
+     * Convierte todas las celdas en muros o todas en transitables de una sola vez. Es el punto de partida
+     * de los generadores: en lugar de actualizar la huella celda por celda, la marca para recalcularla
+     * cuando se pida. No modifica la matriz de `Cell` asociada.
+     *
+     * @param wall `true` para llenar de muros, `false` para vaciar la cuadrícula.
+     */
+    public void fill(boolean wall) {
+        Arrays.fill(this.walls, wall ? -1L : 0L);
+        int resto = size() & 63;
+        if (wall && resto != 0)
+            this.walls[this.walls.length - 1] = (1L << resto) - 1;
+        this.huellaVigente = false;
+    }
+
+    /**
+     * @return El número de palabras de 64 bits que ocupa el conjunto de muros (`ceil(size() / 64)`).
+     */
+    public int wallWords() {
+        return this.walls.length;
+    }
+
+    /**
+     * Reemplaza todos los muros por los leídos de un búfer, palabra por palabra, en el mismo orden de
+     * bits que usa la cuadrícula. Sirve para cargar un laberinto desde un archivo mapeado en memoria sin
+     * pasar por celdas individuales. Los bits que sobran después de la última celda se descartan. Como
+     * {@link #fill(boolean)}, marca la huella para recalcularla.
+     *
+     * @param src El búfer; se leen {@link #wallWords()} valores desde su posición actual.
+     * @throws java.nio.BufferUnderflowException si el búfer no tiene suficientes valores.
+     */
+    public void readWalls(LongBuffer src) {
+        src.get(this.walls);
+        int resto = size() & 63;
+        if (resto != 0)
+            this.walls[this.walls.length - 1] &= (1L << resto) - 1;
+        this.huellaVigente = false;
+    }
+
+    /**
+     * Escribe los muros en un búfer, palabra por palabra, en el formato que lee {@link #readWalls(LongBuffer)}.
+     *
+     * @param dst El búfer; se escriben {@link #wallWords()} valores desde su posición actual.
+     * @throws java.nio.BufferOverflowException si el búfer no tiene espacio suficiente.
+     */
+    public void writeWalls(LongBuffer dst) {
+        dst.put(this.walls);
+    }
+
+    /**
+     * Devuelve la huella de Zobrist del laberinto. Dos cuadrículas con las mismas dimensiones, muros,
+     * inicio y fin tienen la misma huella, sin importar el orden en que se hicieron los cambios.
+     * No recorre la cuadrícula: el valor se mantiene al día en cada modificación, salvo después de
+     * {@link #fill(boolean)}, que obliga a recalcularlo una vez.
+     *
+     * @return La huella de 64 bits del estado actual.
+     */
+    public long getFingerprint() {
+        if (!this.huellaVigente) {
+            long huella = mezclar(((long) this.rows << 32) | this.cols);
+            for (int w = 0; w < this.walls.length; w++) {
+                long bits = this.walls[w];
+                while (bits != 0) {
+                    huella ^= claveZobrist((w << 6) + Long.numberOfTrailingZeros(bits), ZOBRIST_MURO);
+                    bits &= bits - 1;
+                }
+            }
+            if (this.start != NONE)
+                huella ^= claveZobrist(this.start, ZOBRIST_INICIO);
+            if (this.end != NONE)
+                huella ^= claveZobrist(this.end, ZOBRIST_FIN);
+            this.fingerprint = huella;
+            this.huellaVigente = true;
+        }
+        return this.fingerprint;
+    }
+
+    /** @return El índice de la celda de inicio o {@link #NONE}. */
+    public int getStart() {
+        return this.start;
+    }
+
+    /** @param index El índice de la nueva celda de inicio o {@link #NONE}. */
+    public void setStart(int index) {
+        if (this.huellaVigente && this.start != NONE)
+            this.fingerprint ^= claveZobrist(this.start, ZOBRIST_INICIO);
+        this.start = index;
+        if (this.huellaVigente && index != NONE)
+            this.fingerprint ^= claveZobrist(index, ZOBRIST_INICIO);
+    }
+
+    /** @return El índice de la celda de fin o {@link #NONE}. */
+    public int getEnd() {
+        return this.end;
+    }
+
+    /** @param index El índice de la nueva celda de fin o {@link #NONE}. */
+    public void setEnd(int index) {
+        if (this.huellaVigente && this.end != NONE)
+            this.fingerprint ^= claveZobrist(this.end, ZOBRIST_FIN);
+        this.end = index;
+        if (this.huellaVigente && index != NONE)
+            this.fingerprint ^= claveZobrist(index, ZOBRIST_FIN);
+    }
+
+    /**
+     * Devuelve una vista de este laberinto con otros extremos. La vista comparte los bits de muros
+     * (no los copia), por lo que crearla cuesta O(1); sirve para lanzar varias consultas sobre el mismo
+     * laberinto, incluso desde hilos distintos, mientras nadie modifique los muros.
+     *
+     * @param startIndex Índice de la celda de inicio.
+     * @param endIndex Índice de la celda de fin.
+     * @return Una nueva `MazeGrid` con los mismos muros y los extremos indicados.
+     */
+    public MazeGrid withEndpoints(int startIndex, int endIndex) {
+        MazeGrid view = new MazeGrid(this);
+        view.setStart(startIndex);
+        view.setEnd(endIndex);
+        return view;
+    }
+
+    /**
+     * Crea una copia independiente del estado del laberinto: muros, inicio, fin y huella. La copia no
+     * tiene matriz de `Cell` asociada ni índice de conectividad, de modo que puede resolverse en otro
+     * hilo mientras el original se sigue editando.
+     *
+     * @return Una nueva `MazeGrid` con el mismo contenido.
+     */
+    public MazeGrid copy() {
+        MazeGrid copia = new MazeGrid(this.rows, this.cols);
+        System.arraycopy(this.walls, 0, copia.walls, 0, this.walls.length);
+        copia.start = this.start;
+        copia.end = this.end;
+        copia.fingerprint = this.fingerprint;
+        copia.huellaVigente = this.huellaVigente;
+        return copia;
+    }
+
+    /** @return `true` si están definidos tanto el inicio como el fin. */
+    public boolean hasEndpoints() {
+        return this.start != NONE && this.end != NONE;
+    }
+
+    /**
+     * Asocia un índice de componentes conexas a esta cuadrícula. Las vistas creadas después con
+     * {@link #withEndpoints(int, int)} lo comparten. Quien modifica los muros debe notificar al índice.
+     *
+     * @param connectivity El índice, o `null` para quitarlo.
+     */
+    public void setConnectivityIndex(ConnectivityIndex connectivity) {
+        this.connectivity = connectivity;
+    }
+
+    /** @return El índice de componentes conexas asociado, o `null` si no hay ninguno. */
+    public ConnectivityIndex getConnectivityIndex() {
+        return this.connectivity;
+    }
+
+    /**
+     * Consulta rápida previa a una búsqueda: indica si puede existir un camino entre dos celdas.
+     * Sin índice asociado, o si alguna de las celdas es un muro, no se descarta nada.
+     *
+     * @param a Índice de la primera celda.
+     * @param b Índice de la segunda celda.
+     * @return `false` solo si el índice garantiza que ambas celdas están en componentes distintas.
+     */
+    public boolean mayConnect(int a, int b) {
+        if (this.connectivity == null || isWall(a) || isWall(b))
+            return true;
+        return this.connectivity.connected(a, b);
+    }
+
+    /**
+     * Deduce el estado lógico de una celda a partir de los bits y de los extremos.
+     *
+     * @param index Índice de la celda.
+     * @return `START`, `END`, `WALL` o `EMPTY`.
+     */
+    public CellState stateAt(int index) {
+        if (index == this.start)
+            return CellState.START;
+        if (index == this.end)
+            return CellState.END;
+        return isWall(index) ? CellState.WALL : CellState.EMPTY;
+    }
+
+    /**
+     * Obtiene la `Cell` correspondiente a un índice. Si hay una matriz asociada devuelve su instancia;
+     * si no, crea una celda nueva con el estado deducido de la cuadrícula.
+     *
+     * @param index Índice de la celda.
+     * @return La celda en esa posición.
+     */
+    public Cell cellAt(int index) {
+        int r = index / this.cols;
+        int c = index % this.cols;
+        if (this.cells != null)
+            return this.cells[r][c];
+        Cell cell = new Cell(r, c);
+        cell.state = stateAt(index);
+        return cell;
+    }
+
+    /**
+     * Construye un `SolveResults` compacto a partir de los buffers de un solucionador. Copia solo los
+     * tramos usados de los arreglos (4 bytes por celda); las `Cell` se obtienen con {@link #cellAt(int)}
+     * cuando se recorren las listas del resultado.
+     *
+     * @param visits Arreglo con los índices de las celdas visitadas.
+     * @param visitCount Cantidad de celdas visitadas.
+     * @param path Arreglo con los índices de las celdas del camino.
+     * @param pathLength Cantidad de celdas del camino.
+     * @return El resultado compacto.
+     */
+    public SolveResults toResults(int[] visits, int visitCount, int[] path, int pathLength) {
+        return new SolveResults(Arrays.copyOf(visits, visitCount), Arrays.copyOf(path, pathLength), this::cellAt);
+    }
+
+    /**
+     * Devuelve la matriz de `Cell` del laberinto. Si la cuadrícula tiene una matriz asociada la devuelve
+     * tal cual (sin copia); en caso contrario construye una nueva a partir de los bits.
+     *
+     * @return Una matriz de celdas equivalente a esta cuadrícula.
+     */
+    public Cell[][] toCells() {
+        if (this.cells != null)
+            return this.cells;
+        Cell[][] result = new Cell[this.rows][this.cols];
+        for (int r = 0; r < this.rows; r++) {
+            for (int c = 0; c < this.cols; c++) {
+                Cell cell = new Cell(r, c);
+                cell.state = stateAt(r * this.cols + c);
+                result[r][c] = cell;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtiene la clave aleatoria de Zobrist de una celda para una clase de elemento.
+     *
+     * @param index Índice de la celda.
+     * @param clase {@link #ZOBRIST_MURO}, {@link #ZOBRIST_INICIO} o {@link #ZOBRIST_FIN}.
+     * @return Una clave pseudoaleatoria fija de 64 bits.
+     */
+    private static long claveZobrist(int index, int clase) {
+        return mezclar(((long) index << 2) | clase);
+    }
+
+    /**
+     * Función de mezcla de *SplitMix64*: distribuye bien valores consecutivos en 64 bits.
+     */
+    private static long mezclar(long x) {
+        long z = x + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
\ No newline at end of file
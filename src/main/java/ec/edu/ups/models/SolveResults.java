@@ -1,12 +1,23 @@
 package ec.edu.ups.models;
 
+import java.util.AbstractList;
+import java.util.Collection;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
 
 /**
  * La clase `SolveResults` encapsula los resultados de la ejecución de un algoritmo de resolución
  * de caminos o búsqueda. Contiene dos listas principales: una para las celdas **visitadas**
  * durante el proceso de búsqueda y otra para las celdas que constituyen el **camino** encontrado
  * desde el inicio hasta el destino.
+ * <p>
+ * Puede construirse de dos formas. La clásica recibe dos listas de `Cell`. La compacta guarda las celdas
+ * como arreglos `int[]` de índices empaquetados (`fila * columnas + columna`), 4 bytes por celda, y expone
+ * en {@link #visitadas} y {@link #camino} vistas de solo lectura que crean o buscan cada `Cell` recién
+ * cuando se la pide. Así guardar, cachear o pasar un resultado entre hilos no cuesta una referencia y un
+ * objeto por celda, y el código que usa las listas sigue funcionando igual.
+ * </p>
  *
  * @author Moises Piguave
  * @since 28/07/2025
@@ -25,6 +36,10 @@ public class SolveResults {
      * del algoritmo.
      */
     public final List<Cell> camino;
+    /** Índices de las celdas visitadas, o `null` si el resultado se construyó con listas. */
+    private final int[] indicesVisitadas;
+    /** Índices de las celdas del camino, o `null` si el resultado se construyó con listas. */
+    private final int[] indicesCamino;
 
     /**
      * Construye una nueva instancia de `SolveResults` con las listas de celdas visitadas y del camino.
@@ -38,5 +53,93 @@ public class SolveResults {
     public SolveResults(List<Cell> paramList1, List<Cell> paramList2) {
         this.visitadas = paramList1;
         this.camino = paramList2;
+        this.indicesVisitadas = null;
+        this.indicesCamino = null;
+    }
+
+    /**
+     * Construye un resultado compacto a partir de arreglos de índices. Los arreglos pasan a pertenecer
+     * al resultado y no deben modificarse después.
+     *
+     * @param paramArrayOfInt1 Los índices de las celdas visitadas, en orden.
+     * @param paramArrayOfInt2 Los índices de las celdas del camino, en orden.
+     * @param paramIntFunction Obtiene la `Cell` correspondiente a un índice (por ejemplo, `MazeGrid::cellAt`).
+     */
+    public SolveResults(int[] paramArrayOfInt1, int[] paramArrayOfInt2, IntFunction<Cell> paramIntFunction) {
+        this.indicesVisitadas = paramArrayOfInt1;
+        this.indicesCamino = paramArrayOfInt2;
+        this.visitadas = new VistaCeldas(paramArrayOfInt1, paramIntFunction);
+        this.camino = new VistaCeldas(paramArrayOfInt2, paramIntFunction);
+    }
+
+    /**
+     * Construye un resultado compacto a partir de las colecciones de celdas de un solucionador clásico,
+     * sin copiar las listas de referencias: cada celda se guarda como su índice en la matriz.
+     *
+     * @param maze La matriz de celdas del laberinto.
+     * @param visitadas Las celdas visitadas, en orden.
+     * @param camino Las celdas del camino, en orden.
+     * @return Un resultado compacto cuyas vistas devuelven las celdas de `maze`.
+     */
+    public static SolveResults fromCells(Cell[][] maze, Collection<Cell> visitadas, Collection<Cell> camino) {
+        int columnas = maze[0].length;
+        return new SolveResults(indices(visitadas, columnas), indices(camino, columnas),
+                indice -> maze[indice / columnas][indice % columnas]);
+    }
+
+    /** @return `true` si el resultado guarda índices en lugar de listas de celdas. */
+    public boolean isCompact() {
+        return this.indicesVisitadas != null;
+    }
+
+    /**
+     * Devuelve los índices de las celdas visitadas de un resultado compacto. El arreglo no es una copia
+     * y no debe modificarse.
+     *
+     * @return Los índices, o `null` si el resultado no es compacto.
+     */
+    public int[] getVisitIndices() {
+        return this.indicesVisitadas;
+    }
+
+    /**
+     * Devuelve los índices de las celdas del camino de un resultado compacto. El arreglo no es una copia
+     * y no debe modificarse.
+     *
+     * @return Los índices, o `null` si el resultado no es compacto.
+     */
+    public int[] getPathIndices() {
+        return this.indicesCamino;
+    }
+
+    private static int[] indices(Collection<Cell> celdas, int columnas) {
+        int[] resultado = new int[celdas.size()];
+        int i = 0;
+        for (Cell cell : celdas)
+            resultado[i++] = cell.row * columnas + cell.col;
+        return resultado;
+    }
+
+    /**
+     * Lista de solo lectura que presenta un arreglo de índices como celdas.
+     */
+    private static final class VistaCeldas extends AbstractList<Cell> implements RandomAccess {
+        private final int[] indices;
+        private final IntFunction<Cell> celdas;
+
+        VistaCeldas(int[] indices, IntFunction<Cell> celdas) {
+            this.indices = indices;
+            this.celdas = celdas;
+        }
+
+        @Override
+        public Cell get(int index) {
+            return this.celdas.apply(this.indices[index]);
+        }
+
+        @Override
+        public int size() {
+            return this.indices.length;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package ec.edu.ups.solver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.solverImpl.MazeSolverBFSCompacto;
+
+/**
+ * `BatchSolver` responde muchas consultas de inicio y fin sobre un mismo laberinto.
+ * El laberinto se preprocesa una sola vez (se convierte a `MazeGrid`), cada consulta se valida una sola
+ * vez al entrar al lote, y luego las consultas se reparten en paralelo en trozos contiguos. Cada trozo usa
+ * su propia instancia de solucionador, de modo que los buffers reutilizables de los motores basados en
+ * índices se aprovechan entre las consultas del trozo sin compartir estado entre hilos. Las instancias
+ * viven solo mientras dura el lote: no quedan guardadas en los hilos del pool común al terminar.
+ * <p>
+ * Además de los `SolveResults` completos ofrece un modo que solo calcula distancias, sin materializar
+ * listas de visitadas ni caminos.
+ * </p>
+ * El laberinto no debe modificarse mientras un lote está en curso.
+ */
+public class BatchSolver {
+    /** Trozos por hilo del pool común; más de uno reparte mejor las consultas de distinto costo. */
+    private static final int TROZOS_POR_HILO = 4;
+
+    /**
+     * Una consulta del lote: un par de celdas de inicio y fin.
+     *
+     * @param start La celda de inicio.
+     * @param end La celda de fin.
+     */
+    public record Query(Cell start, Cell end) {
+    }
+
+    /** El laberinto preprocesado. */
+    private final MazeGrid grid;
+
+    /**
+     * Prepara un lote sobre una matriz de celdas; la conversión a `MazeGrid` se hace aquí una sola vez.
+     *
+     * @param maze La matriz de celdas del laberinto.
+     */
+    public BatchSolver(Cell[][] maze) {
+        this(MazeGrid.fromCells(maze, null, null));
+    }
+
+    /**
+     * Prepara un lote sobre un laberinto que ya está en forma compacta.
+     *
+     * @param grid La cuadrícula del laberinto.
+     */
+    public BatchSolver(MazeGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Resuelve todas las consultas con `MazeSolverBFSCompacto`.
+     *
+     * @param queries Las consultas a resolver.
+     * @return Un `SolveResults` por consulta, en el mismo orden.
+     */
+    public List<SolveResults> solveAll(List<Query> queries) {
+        return solveAll(queries, MazeSolverBFSCompacto::new);
+    }
+
+    /**
+     * Resuelve todas las consultas en paralelo con el solucionador indicado.
+     *
+     * @param queries Las consultas a resolver.
+     * @param fabrica Crea un solucionador por trozo del lote.
+     * @return Un `SolveResults` por consulta, en el mismo orden.
+     * @throws IllegalArgumentException si alguna consulta tiene un extremo fuera del laberinto.
+     */
+    public List<SolveResults> solveAll(List<Query> queries, Supplier<? extends MazeSolver> fabrica) {
+        int[] extremos = validar(queries);
+        SolveResults[] resultados = new SolveResults[queries.size()];
+        repartir(resultados.length, fabrica, (solver, i) -> {
+            MazeGrid consulta = this.grid.withEndpoints(extremos[2 * i], extremos[2 * i + 1]);
+            resultados[i] = solver.getPath(consulta);
+        });
+        return Arrays.asList(resultados);
+    }
+
+    /**
+     * Calcula solo la distancia más corta de cada consulta, sin construir listas de celdas.
+     *
+     * @param queries Las consultas a resolver.
+     * @return La distancia en pasos de cada consulta, en el mismo orden, o -1 si el fin no es alcanzable.
+     * @throws IllegalArgumentException si alguna consulta tiene un extremo fuera del laberinto.
+     */
+    public int[] distances(List<Query> queries) {
+        int[] extremos = validar(queries);
+        int[] distancias = new int[queries.size()];
+        repartir(distancias.length, MazeSolverBFSCompacto::new, (motor, i) ->
+                distancias[i] = motor.buscar(this.grid, extremos[2 * i], extremos[2 * i + 1]));
+        return distancias;
+    }
+
+    /** @return El laberinto preprocesado sobre el que se resuelven las consultas. */
+    public MazeGrid getGrid() {
+        return this.grid;
+    }
+
+    /**
+     * Reparte las consultas `0..total-1` en trozos contiguos que se procesan en paralelo, cada uno con un
+     * solucionador nuevo que se descarta al terminar el trozo.
+     *
+     * @param total El número de consultas.
+     * @param fabrica Crea el solucionador de cada trozo.
+     * @param consulta Resuelve una consulta con el solucionador de su trozo.
+     */
+    private static <S> void repartir(int total, Supplier<? extends S> fabrica, ObjIntConsumer<S> consulta) {
+        int trozos = Math.min(total, TROZOS_POR_HILO * ForkJoinPool.getCommonPoolParallelism());
+        IntStream.range(0, trozos).parallel().forEach(t -> {
+            S solucionador = fabrica.get();
+            int hasta = (int) ((long) total * (t + 1) / trozos);
+            for (int i = (int) ((long) total * t / trozos); i < hasta; i++)
+                consulta.accept(solucionador, i);
+        });
+    }
+
+    /**
+     * Valida todas las consultas una sola vez y las convierte a pares de índices.
+     *
+     * @param queries Las consultas.
+     * @return Un arreglo con el índice de inicio y de fin de cada consulta, intercalados.
+     */
+    private int[] validar(List<Query> queries) {
+        int[] extremos = new int[2 * queries.size()];
+        for (int i = 0; i < queries.size(); i++) {
+            Query q = queries.get(i);
+            extremos[2 * i] = indiceDe(q.start(), i);
+            extremos[2 * i + 1] = indiceDe(q.end(), i);
+        }
+        return extremos;
+    }
+
+    private int indiceDe(Cell cell, int consulta) {
+        if (cell == null || !this.grid.contains(cell.row, cell.col))
+            throw new IllegalArgumentException("La consulta " + consulta + " tiene un extremo fuera del laberinto.");
+        return this.grid.index(cell.row, cell.col);
+    }
+}
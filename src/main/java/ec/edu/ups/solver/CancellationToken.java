@@ -0,0 +1,93 @@
+package ec.edu.ups.solver;
+
+/**
+ * `CancellationToken` permite detener una búsqueda en curso desde otro hilo, de forma cooperativa: el
+ * solucionador llama a {@link #checkpoint()} en cada paso de su bucle principal y el testigo, cada
+ * {@link #INTERVALO} pasos, comprueba si se pidió cancelar o si se agotó el presupuesto de tiempo. En ese
+ * caso lanza una {@link SolveCancelledException}, que atraviesa la búsqueda (también la recursión de los
+ * solucionadores recursivos) hasta quien la lanzó.
+ * <p>
+ * Consultar el reloj solo cada {@link #INTERVALO} pasos mantiene el costo por paso en un incremento y una
+ * comparación. El contador no está sincronizado: si varios hilos de una misma búsqueda comparten el
+ * testigo, el intervalo es solo aproximado, lo que no afecta al resultado.
+ * </p>
+ */
+public final class CancellationToken {
+    /** Cantidad de pasos entre dos comprobaciones; es potencia de dos. */
+    public static final int INTERVALO = 1024;
+    /** Testigo que nunca cancela; es el que usan los solucionadores si no se les asigna otro. */
+    public static final CancellationToken NONE = new CancellationToken(0L, false);
+
+    /** Momento límite según `System.nanoTime()`, o 0 si no hay presupuesto de tiempo. */
+    private final long limite;
+    /**
+     * `false` solo en {@link #NONE}. Ese testigo lo comparten todas las búsquedas sin cancelación, incluso
+     * en paralelo, así que no cuenta pasos: escribir en un contador compartido entre hilos sería caro.
+     */
+    private final boolean cancelable;
+    /** `true` si se pidió cancelar. */
+    private volatile boolean cancelado;
+    /** Pasos contados desde la última comprobación. */
+    private int pasos;
+
+    private CancellationToken(long limite, boolean cancelable) {
+        this.limite = limite;
+        this.cancelable = cancelable;
+    }
+
+    /**
+     * @return Un testigo sin límite de tiempo, que solo se detiene con {@link #cancel()}.
+     */
+    public static CancellationToken create() {
+        return new CancellationToken(0L, true);
+    }
+
+    /**
+     * @param nanos El presupuesto de tiempo, en nanosegundos, a partir de ahora.
+     * @return Un testigo que cancela cuando pasa ese tiempo o cuando se llama a {@link #cancel()}.
+     */
+    public static CancellationToken withBudget(long nanos) {
+        long limite = System.nanoTime() + nanos;
+        return new CancellationToken(limite == 0L ? 1L : limite, true);
+    }
+
+    /**
+     * Pide que la búsqueda se detenga en su próxima comprobación. Se puede llamar desde cualquier hilo.
+     */
+    public void cancel() {
+        if (this.cancelable)
+            this.cancelado = true;
+    }
+
+    /** @return `true` si se pidió cancelar (no considera el presupuesto de tiempo). */
+    public boolean isCancelled() {
+        return this.cancelado;
+    }
+
+    /** @return `true` si el testigo tiene presupuesto de tiempo y ya se agotó. */
+    public boolean isExpired() {
+        return this.limite != 0L && System.nanoTime() - this.limite >= 0;
+    }
+
+    /**
+     * Cuenta un paso de la búsqueda y, cada {@link #INTERVALO} pasos, comprueba si hay que detenerse.
+     *
+     * @throws SolveCancelledException si se pidió cancelar o se agotó el presupuesto de tiempo.
+     */
+    public void checkpoint() {
+        if (this.cancelable && (++this.pasos & (INTERVALO - 1)) == 0)
+            throwIfCancelled();
+    }
+
+    /**
+     * Comprueba de inmediato si hay que detenerse.
+     *
+     * @throws SolveCancelledException si se pidió cancelar o se agotó el presupuesto de tiempo.
+     */
+    public void throwIfCancelled() {
+        if (this.cancelado)
+            throw new SolveCancelledException("La búsqueda fue cancelada.", false);
+        if (isExpired())
+            throw new SolveCancelledException("La búsqueda superó el tiempo máximo.", true);
+    }
+}
@@ -1,6 +1,7 @@
 package ec.edu.ups.solver;
 
 import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
 import ec.edu.ups.models.SolveResults;
 
 /**
@@ -30,4 +31,63 @@ public interface MazeSolver {
      * Si no se encuentra un camino, la lista del camino puede estar vacía o contener solo la celda de inicio.
      */
     public SolveResults getPath(Cell[][] maze, Cell startCell, Cell endCell);
+
+    /**
+     * Variante de {@link #getPath(Cell[][], Cell, Cell)} que recibe el laberinto en su forma compacta.
+     * Los solucionadores que trabajan directamente sobre índices y bits deben sobrescribir este método;
+     * la implementación por defecto obtiene la matriz de `Cell` de la cuadrícula (sin copia si la tiene
+     * asociada) y delega en la versión clásica.
+     *
+     * @param grid La cuadrícula del laberinto, con el inicio y el fin ya definidos.
+     * @return Un objeto `SolveResults` con las celdas visitadas y el camino encontrado.
+     * @throws IllegalStateException si la cuadrícula no tiene inicio o fin.
+     */
+    default SolveResults getPath(MazeGrid grid) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        return getPath(grid.toCells(), grid.cellAt(grid.getStart()), grid.cellAt(grid.getEnd()));
+    }
+
+    /**
+     * Modo *streaming*: resuelve el laberinto emitiendo cada visita y cada celda del camino al receptor
+     * a medida que ocurren, sin construir las listas de `SolveResults`. Los solucionadores basados en
+     * índices lo sobrescriben para emitir los eventos durante la búsqueda; la implementación por defecto
+     * resuelve con {@link #getPath(MazeGrid)} y reproduce el resultado.
+     *
+     * @param grid La cuadrícula del laberinto, con el inicio y el fin ya definidos.
+     * @param listener El receptor de los eventos.
+     * @return `true` si se encontró un camino.
+     * @throws IllegalStateException si la cuadrícula no tiene inicio o fin.
+     */
+    default boolean solve(MazeGrid grid, SolveListener listener) {
+        return SolveListener.replay(getPath(grid), grid, listener);
+    }
+
+    /**
+     * Asigna el testigo de cancelación que consultarán las búsquedas siguientes. Los solucionadores que
+     * lo admiten llaman a {@link CancellationToken#checkpoint()} en cada paso de su bucle o de su
+     * recursión, así que una búsqueda cancelada o fuera de tiempo termina con una
+     * {@link SolveCancelledException} poco después de pedirlo. La implementación por defecto ignora el
+     * testigo: la búsqueda no se puede cancelar y siempre llega al final.
+     *
+     * @param token El testigo, o {@link CancellationToken#NONE} (o `null`) para no poder cancelar.
+     */
+    default void setCancellationToken(CancellationToken token) {
+    }
+
+    /**
+     * Indica si un solucionador trabaja sobre la matriz de `Cell`: no tiene su propia versión de
+     * {@link #getPath(MazeGrid)}, así que la implementación por defecto construye la matriz en cada
+     * llamada. Quien mida tiempos debe construirla antes y llamar a {@link #getPath(Cell[][], Cell, Cell)}.
+     *
+     * @param solver El solucionador.
+     * @return `true` si resuelve sobre la matriz de `Cell`.
+     */
+    static boolean usesCells(MazeSolver solver) {
+        try {
+            return solver.getClass().getMethod("getPath", MazeGrid.class).getDeclaringClass() == MazeSolver.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
 }
\ No newline at end of file
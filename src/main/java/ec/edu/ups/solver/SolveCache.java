@@ -0,0 +1,244 @@
+package ec.edu.ups.solver;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import ec.edu.ups.models.MazeChangeListener;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+
+/**
+ * `SolveCache` guarda los `SolveResults` de resoluciones anteriores para no repetir una búsqueda cuando
+ * se vuelve a pedir el mismo algoritmo sobre el mismo laberinto y los mismos extremos.
+ * <p>
+ * La clave es (algoritmo, huella de Zobrist del laberinto, inicio, fin). Las entradas se desalojan
+ * en orden LRU (un `LinkedHashMap` en orden de acceso) cuando la memoria estimada supera el presupuesto
+ * configurado. Como listener del controlador, descarta las entradas que un cambio deja sin uso: todas al
+ * cambiar un muro, y las de otro inicio u otro fin al mover un extremo.
+ * </p>
+ * Los métodos están sincronizados para que la caché pueda consultarse desde hilos de resolución.
+ */
+public class SolveCache implements MazeChangeListener {
+    /** Presupuesto de memoria por defecto: 32 MiB. */
+    public static final long PRESUPUESTO_POR_DEFECTO = 32L * 1024 * 1024;
+    /** Costo fijo estimado de una entrada (clave, nodo del mapa y `SolveResults`). */
+    private static final long BYTES_POR_ENTRADA = 160;
+    /** Costo estimado de cada referencia a `Cell` en las listas de un resultado clásico. */
+    private static final long BYTES_POR_REFERENCIA = 8;
+    /** Costo de cada índice en un resultado compacto. */
+    private static final long BYTES_POR_INDICE = 4;
+
+    /**
+     * Clave de una entrada de la caché.
+     *
+     * @param algorithm Nombre del algoritmo.
+     * @param fingerprint Huella de Zobrist del laberinto.
+     * @param startRow Fila de la celda de inicio.
+     * @param startCol Columna de la celda de inicio.
+     * @param endRow Fila de la celda de fin.
+     * @param endCol Columna de la celda de fin.
+     */
+    private record Key(String algorithm, long fingerprint, int startRow, int startCol, int endRow, int endCol) {
+    }
+
+    /** Entradas en orden de acceso, de la menos a la más reciente. */
+    private final LinkedHashMap<Key, SolveResults> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    /** Presupuesto de memoria en bytes. */
+    private long presupuesto;
+    /** Memoria estimada ocupada por las entradas actuales. */
+    private long usados;
+    /** Consultas que encontraron un resultado. */
+    private long aciertos;
+    /** Consultas que no encontraron un resultado. */
+    private long fallos;
+    /** Entradas desalojadas por falta de presupuesto. */
+    private long desalojos;
+
+    /**
+     * Construye una caché con el presupuesto de memoria por defecto.
+     */
+    public SolveCache() {
+        this(PRESUPUESTO_POR_DEFECTO);
+    }
+
+    /**
+     * Construye una caché con un presupuesto de memoria propio.
+     *
+     * @param presupuestoBytes Memoria máxima estimada, en bytes.
+     * @throws IllegalArgumentException si el presupuesto es negativo.
+     */
+    public SolveCache(long presupuestoBytes) {
+        setBudgetBytes(presupuestoBytes);
+    }
+
+    /**
+     * Busca el resultado de un algoritmo sobre el estado actual del laberinto.
+     *
+     * @param algorithm Nombre del algoritmo.
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return El resultado guardado, o `null` si no hay ninguno.
+     */
+    public synchronized SolveResults get(String algorithm, MazeGrid grid) {
+        SolveResults resultado = this.entradas.get(claveDe(algorithm, grid));
+        if (resultado == null)
+            this.fallos++;
+        else
+            this.aciertos++;
+        return resultado;
+    }
+
+    /**
+     * Guarda el resultado de un algoritmo sobre el estado actual del laberinto y desaloja las entradas
+     * menos usadas si se supera el presupuesto. Un resultado que por sí solo excede el presupuesto no se guarda.
+     *
+     * @param algorithm Nombre del algoritmo.
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @param results El resultado a guardar.
+     */
+    public synchronized void put(String algorithm, MazeGrid grid, SolveResults results) {
+        long tamanio = tamanioDe(results);
+        if (tamanio > this.presupuesto)
+            return;
+        SolveResults anterior = this.entradas.put(claveDe(algorithm, grid), results);
+        if (anterior != null)
+            this.usados -= tamanioDe(anterior);
+        this.usados += tamanio;
+        ajustarAlPresupuesto();
+    }
+
+    /**
+     * Resuelve con la caché delante del solucionador: devuelve el resultado guardado o, si no hay,
+     * ejecuta la búsqueda y guarda su resultado.
+     *
+     * @param algorithm Nombre del algoritmo.
+     * @param solver El solucionador a usar en caso de fallo.
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return El resultado de la búsqueda.
+     */
+    public SolveResults getPath(String algorithm, MazeSolver solver, MazeGrid grid) {
+        SolveResults resultado = get(algorithm, grid);
+        if (resultado == null) {
+            resultado = solver.getPath(grid);
+            put(algorithm, grid, resultado);
+        }
+        return resultado;
+    }
+
+    /** Descarta todas las entradas. Los contadores se conservan. */
+    public synchronized void clear() {
+        this.entradas.clear();
+        this.usados = 0;
+    }
+
+    /**
+     * Cambia el presupuesto de memoria, desalojando entradas si hace falta.
+     *
+     * @param presupuestoBytes Memoria máxima estimada, en bytes.
+     * @throws IllegalArgumentException si el presupuesto es negativo.
+     */
+    public synchronized void setBudgetBytes(long presupuestoBytes) {
+        if (presupuestoBytes < 0)
+            throw new IllegalArgumentException("Presupuesto inválido: " + presupuestoBytes);
+        this.presupuesto = presupuestoBytes;
+        ajustarAlPresupuesto();
+    }
+
+    /** @return El presupuesto de memoria en bytes. */
+    public synchronized long getBudgetBytes() {
+        return this.presupuesto;
+    }
+
+    /** @return La memoria estimada ocupada por las entradas, en bytes. */
+    public synchronized long getUsedBytes() {
+        return this.usados;
+    }
+
+    /** @return El número de entradas guardadas. */
+    public synchronized int size() {
+        return this.entradas.size();
+    }
+
+    /** @return El número de consultas que encontraron un resultado. */
+    public synchronized long getHits() {
+        return this.aciertos;
+    }
+
+    /** @return El número de consultas que no encontraron un resultado. */
+    public synchronized long getMisses() {
+        return this.fallos;
+    }
+
+    /** @return El número de entradas desalojadas por falta de presupuesto. */
+    public synchronized long getEvictions() {
+        return this.desalojos;
+    }
+
+    /**
+     * Un muro nuevo o quitado cambia el contenido del laberinto, así que ninguna entrada guardada
+     * puede volver a usarse mientras el laberinto no regrese a un estado anterior: se descartan todas.
+     */
+    @Override
+    public synchronized void wallChanged(int row, int col, boolean wall) {
+        clear();
+    }
+
+    @Override
+    public synchronized void startChanged(int row, int col) {
+        descartarSi(true, row, col);
+    }
+
+    @Override
+    public synchronized void endChanged(int row, int col) {
+        descartarSi(false, row, col);
+    }
+
+    /**
+     * Descarta las entradas cuyo inicio (o fin) no es la celda indicada.
+     *
+     * @param inicio `true` para comparar el inicio de cada clave, `false` para comparar el fin.
+     * @param row Fila del nuevo extremo.
+     * @param col Columna del nuevo extremo.
+     */
+    private void descartarSi(boolean inicio, int row, int col) {
+        Iterator<Map.Entry<Key, SolveResults>> it = this.entradas.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, SolveResults> entrada = it.next();
+            Key clave = entrada.getKey();
+            boolean conserva = inicio
+                    ? clave.startRow() == row && clave.startCol() == col
+                    : clave.endRow() == row && clave.endCol() == col;
+            if (!conserva) {
+                this.usados -= tamanioDe(entrada.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Desaloja las entradas menos usadas hasta que la memoria estimada entre en el presupuesto.
+     */
+    private void ajustarAlPresupuesto() {
+        Iterator<SolveResults> it = this.entradas.values().iterator();
+        while (this.usados > this.presupuesto && it.hasNext()) {
+            this.usados -= tamanioDe(it.next());
+            it.remove();
+            this.desalojos++;
+        }
+    }
+
+    private static Key claveDe(String algorithm, MazeGrid grid) {
+        int inicio = grid.getStart();
+        int fin = grid.getEnd();
+        return new Key(algorithm, grid.getFingerprint(), grid.rowOf(inicio), grid.colOf(inicio),
+                grid.rowOf(fin), grid.colOf(fin));
+    }
+
+    /**
+     * Estima la memoria de un resultado. Las celdas en sí pertenecen al laberinto y no se cuentan,
+     * solo las referencias de las listas o los índices de un resultado compacto.
+     */
+    private static long tamanioDe(SolveResults results) {
+        long porCelda = results.isCompact() ? BYTES_POR_INDICE : BYTES_POR_REFERENCIA;
+        return BYTES_POR_ENTRADA + porCelda * (results.visitadas.size() + results.camino.size());
+    }
+}
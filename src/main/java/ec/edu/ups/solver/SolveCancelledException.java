@@ -0,0 +1,25 @@
+package ec.edu.ups.solver;
+
+/**
+ * Excepción que lanza un solucionador cuando su {@link CancellationToken} pide detener la búsqueda, ya
+ * sea porque se canceló o porque se agotó el presupuesto de tiempo. La búsqueda queda sin resultado; el
+ * solucionador se puede volver a usar.
+ */
+public class SolveCancelledException extends RuntimeException {
+    /** `true` si la causa fue el presupuesto de tiempo. */
+    private final boolean porTiempo;
+
+    /**
+     * @param mensaje La descripción de la causa.
+     * @param porTiempo `true` si la causa fue el presupuesto de tiempo y no una cancelación explícita.
+     */
+    public SolveCancelledException(String mensaje, boolean porTiempo) {
+        super(mensaje);
+        this.porTiempo = porTiempo;
+    }
+
+    /** @return `true` si la búsqueda se detuvo por agotar el presupuesto de tiempo. */
+    public boolean isTimeout() {
+        return this.porTiempo;
+    }
+}
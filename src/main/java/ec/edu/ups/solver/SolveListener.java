@@ -0,0 +1,67 @@
+package ec.edu.ups.solver;
+
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+
+/**
+ * Receptor de los eventos de una resolución en modo *streaming* (ver
+ * {@link MazeSolver#solve(MazeGrid, SolveListener)}). Las celdas se identifican por su índice
+ * empaquetado (`fila * columnas + columna`).
+ * <p>
+ * Los eventos llegan en este orden: una llamada a {@link #onVisit(int)} por cada celda visitada, en el
+ * orden en que el algoritmo las visita; luego una llamada a {@link #onPath(int)} por cada celda del
+ * camino, en el mismo orden que `SolveResults.camino`; y por último una llamada a {@link #onFinish(boolean)}.
+ * Los eventos se entregan en el hilo que ejecuta la búsqueda.
+ * </p>
+ */
+public interface SolveListener {
+
+    /**
+     * Se invoca cuando el algoritmo visita una celda.
+     *
+     * @param cell Índice de la celda visitada.
+     */
+    void onVisit(int cell);
+
+    /**
+     * Se invoca por cada celda del camino encontrado.
+     *
+     * @param cell Índice de la celda del camino.
+     */
+    void onPath(int cell);
+
+    /**
+     * Se invoca una sola vez al terminar la búsqueda.
+     *
+     * @param found `true` si se encontró un camino.
+     */
+    void onFinish(boolean found);
+
+    /**
+     * Emite como eventos un resultado ya materializado. Es lo que hacen los solucionadores que no
+     * implementan el modo *streaming*, y sirve también para reproducir resultados guardados.
+     *
+     * @param results El resultado a reproducir.
+     * @param grid La cuadrícula sobre la que se obtuvo el resultado.
+     * @param listener El receptor de los eventos.
+     * @return `true` si el resultado tiene camino.
+     */
+    static boolean replay(SolveResults results, MazeGrid grid, SolveListener listener) {
+        if (results.isCompact()) {
+            // Los índices ya están en la forma de los eventos: no hace falta obtener cada celda.
+            for (int cell : results.getVisitIndices())
+                listener.onVisit(cell);
+            for (int cell : results.getPathIndices())
+                listener.onPath(cell);
+        } else {
+            for (Cell cell : results.visitadas)
+                listener.onVisit(grid.index(cell.row, cell.col));
+            for (Cell cell : results.camino)
+                listener.onPath(grid.index(cell.row, cell.col));
+        }
+        boolean found = !results.camino.isEmpty();
+        listener.onFinish(found);
+        return found;
+    }
+}
@@ -0,0 +1,138 @@
+package ec.edu.ups.solver;
+
+import java.util.Arrays;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+
+/**
+ * `SolveRecorder` es un `SolveListener` que guarda los eventos como arreglos de índices y, opcionalmente,
+ * los reenvía a otro receptor. Sirve para consumir una resolución en *streaming* y, además, quedarse con
+ * el resultado completo (por ejemplo, para guardarlo en la caché).
+ * <p>
+ * Para medir una búsqueda sin contar a quien consume los eventos, se graba con
+ * {@link #record(MazeSolver, MazeGrid)} y después se reproduce con {@link #replay(SolveListener)}.
+ * </p>
+ */
+public class SolveRecorder implements SolveListener {
+    /** Receptor al que se reenvían los eventos, o `null`. */
+    private final SolveListener destino;
+    /** Celdas visitadas. */
+    private int[] visitadas = new int[64];
+    /** Número de celdas visitadas. */
+    private int nVisitadas;
+    /** Celdas del camino. */
+    private int[] camino = new int[64];
+    /** Número de celdas del camino. */
+    private int largoCamino;
+    /** Resultado informado al terminar. */
+    private boolean encontrado;
+
+    /**
+     * Construye un grabador que solo guarda los eventos.
+     */
+    public SolveRecorder() {
+        this(null);
+    }
+
+    /**
+     * Construye un grabador que guarda los eventos y los reenvía.
+     *
+     * @param destino El receptor al que se reenvían, o `null`.
+     */
+    public SolveRecorder(SolveListener destino) {
+        this.destino = destino;
+    }
+
+    @Override
+    public void onVisit(int cell) {
+        if (this.nVisitadas == this.visitadas.length)
+            this.visitadas = Arrays.copyOf(this.visitadas, 2 * this.visitadas.length);
+        this.visitadas[this.nVisitadas++] = cell;
+        if (this.destino != null)
+            this.destino.onVisit(cell);
+    }
+
+    @Override
+    public void onPath(int cell) {
+        if (this.largoCamino == this.camino.length)
+            this.camino = Arrays.copyOf(this.camino, 2 * this.camino.length);
+        this.camino[this.largoCamino++] = cell;
+        if (this.destino != null)
+            this.destino.onPath(cell);
+    }
+
+    @Override
+    public void onFinish(boolean found) {
+        this.encontrado = found;
+        if (this.destino != null)
+            this.destino.onFinish(found);
+    }
+
+    /**
+     * Resuelve la cuadrícula grabando los eventos y devuelve el tiempo de la búsqueda sola. Si el
+     * solucionador trabaja sobre la matriz de `Cell` (ver {@link MazeSolver#usesCells(MazeSolver)}), la
+     * matriz se construye antes de medir y el resultado se graba después. Conviene usarlo con un grabador
+     * sin receptor, para que el tiempo no incluya el de quien consume los eventos.
+     *
+     * @param solver El solucionador.
+     * @param grid La cuadrícula del laberinto, con el inicio y el fin ya definidos.
+     * @return El tiempo de la búsqueda en nanosegundos.
+     * @throws IllegalStateException si la cuadrícula no tiene inicio o fin.
+     */
+    public long record(MazeSolver solver, MazeGrid grid) {
+        if (MazeSolver.usesCells(solver) && grid.hasEndpoints()) {
+            Cell[][] celdas = grid.toCells();
+            Cell inicio = celdas[grid.rowOf(grid.getStart())][grid.colOf(grid.getStart())];
+            Cell fin = celdas[grid.rowOf(grid.getEnd())][grid.colOf(grid.getEnd())];
+            long l1 = System.nanoTime();
+            SolveResults resultado = solver.getPath(celdas, inicio, fin);
+            long l2 = System.nanoTime();
+            SolveListener.replay(resultado, grid, this);
+            return l2 - l1;
+        }
+        long l1 = System.nanoTime();
+        solver.solve(grid, this);
+        return System.nanoTime() - l1;
+    }
+
+    /**
+     * Reproduce los eventos grabados, en el mismo orden, sobre otro receptor.
+     *
+     * @param listener El receptor de los eventos.
+     * @return `true` si la resolución grabada tiene camino.
+     */
+    public boolean replay(SolveListener listener) {
+        for (int i = 0; i < this.nVisitadas; i++)
+            listener.onVisit(this.visitadas[i]);
+        for (int i = 0; i < this.largoCamino; i++)
+            listener.onPath(this.camino[i]);
+        listener.onFinish(this.encontrado);
+        return this.encontrado;
+    }
+
+    /**
+     * Construye el `SolveResults` equivalente a los eventos grabados.
+     *
+     * @param grid La cuadrícula de la que se toman las celdas.
+     * @return El resultado de la resolución.
+     */
+    public SolveResults toResults(MazeGrid grid) {
+        return grid.toResults(this.visitadas, this.nVisitadas, this.camino, this.largoCamino);
+    }
+
+    /** @return `true` si la resolución terminó con un camino. */
+    public boolean isFound() {
+        return this.encontrado;
+    }
+
+    /** @return El número de celdas visitadas grabadas. */
+    public int getVisitCount() {
+        return this.nVisitadas;
+    }
+
+    /** @return El número de celdas del camino grabado. */
+    public int getPathLength() {
+        return this.largoCamino;
+    }
+}
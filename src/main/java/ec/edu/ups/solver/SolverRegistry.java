@@ -0,0 +1,93 @@
+package ec.edu.ups.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import ec.edu.ups.solver.solverImpl.*;
+
+/**
+ * `SolverRegistry` reúne en un solo lugar los solucionadores disponibles, con el nombre con el que se
+ * muestran en la interfaz. La ventana principal, el benchmark y cualquier otra herramienta obtienen de
+ * aquí la lista de algoritmos y crean las instancias, de modo que un solucionador nuevo se agrega una
+ * sola vez.
+ * <p>
+ * Cada llamada a {@link #create(String)} devuelve una instancia nueva: los solucionadores basados en
+ * índices guardan buffers y no deben compartirse entre hilos.
+ * </p>
+ */
+public final class SolverRegistry {
+    /**
+     * Tamaño de pila recomendado para los hilos que ejecutan solucionadores: los recursivos clásicos bajan
+     * una llamada por celda y con la pila por defecto se desbordan en laberintos medianos.
+     */
+    public static final long STACK_SIZE = 512L << 20;
+    /** Fábricas de solucionadores por nombre, en el orden en que se muestran. */
+    private static final Map<String, Supplier<MazeSolver>> FABRICAS = new LinkedHashMap<>();
+
+    static {
+        FABRICAS.put("Recursivo", MazeSolverRecursivo::new);
+        FABRICAS.put("Recursivo Completo", MazeSolverRecursivoCompleto::new);
+        FABRICAS.put("Recursivo Completo BT", MazeSolverRecursivoCompletoBT::new);
+        FABRICAS.put("BFS", MazeSolverBFS::new);
+        FABRICAS.put("BFS Compacto", MazeSolverBFSCompacto::new);
+        FABRICAS.put("DFS", MazeSolverDFS::new);
+        FABRICAS.put("Recursivo Iterativo", MazeSolverRecursivoIterativo::new);
+        FABRICAS.put("Recursivo Completo Iterativo", MazeSolverRecursivoCompletoIterativo::new);
+        FABRICAS.put("Recursivo Completo BT Iterativo", MazeSolverRecursivoCompletoBTIterativo::new);
+        FABRICAS.put("DFS Iterativo", MazeSolverDFSIterativo::new);
+        FABRICAS.put("A* Manhattan", () -> new MazeSolverAEstrella(Heuristic.MANHATTAN));
+        FABRICAS.put("A* Euclidiana", () -> new MazeSolverAEstrella(Heuristic.EUCLIDEAN));
+        FABRICAS.put("Dijkstra", () -> new MazeSolverAEstrella(Heuristic.ZERO));
+        FABRICAS.put("BFS Bidireccional", MazeSolverBFSBidireccional::new);
+        FABRICAS.put("JPS", MazeSolverJPS::new);
+        FABRICAS.put("BFS Paralelo", MazeSolverBFSParalelo::new);
+        FABRICAS.put("LPA* Incremental", MazeSolverLPAEstrella::new);
+    }
+
+    private SolverRegistry() {
+    }
+
+    /**
+     * @return Los nombres de todos los solucionadores registrados, en orden de presentación.
+     */
+    public static List<String> names() {
+        return Collections.unmodifiableList(new ArrayList<>(FABRICAS.keySet()));
+    }
+
+    /**
+     * @param name El nombre de un solucionador.
+     * @return `true` si hay un solucionador registrado con ese nombre.
+     */
+    public static boolean contains(String name) {
+        return FABRICAS.containsKey(name);
+    }
+
+    /**
+     * Crea una instancia nueva del solucionador indicado.
+     *
+     * @param name El nombre del solucionador.
+     * @return El solucionador.
+     * @throws IllegalArgumentException si no hay ningún solucionador con ese nombre.
+     */
+    public static MazeSolver create(String name) {
+        Supplier<MazeSolver> fabrica = FABRICAS.get(name);
+        if (fabrica == null)
+            throw new IllegalArgumentException("Algoritmo desconocido: " + name);
+        return fabrica.get();
+    }
+
+    /**
+     * @param name El nombre de un solucionador.
+     * @return La fábrica del solucionador indicado, útil para crear una instancia por hilo.
+     * @throws IllegalArgumentException si no hay ningún solucionador con ese nombre.
+     */
+    public static Supplier<MazeSolver> factory(String name) {
+        Supplier<MazeSolver> fabrica = FABRICAS.get(name);
+        if (fabrica == null)
+            throw new IllegalArgumentException("Algoritmo desconocido: " + name);
+        return fabrica;
+    }
+}
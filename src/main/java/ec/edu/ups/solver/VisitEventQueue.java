@@ -0,0 +1,229 @@
+package ec.edu.ups.solver;
+
+/**
+ * `VisitEventQueue` es una cola de eventos de resolución entre el hilo que busca (productor) y el que
+ * los consume, por ejemplo la animación de `MazeFrame`. Cada evento es un `int`: el índice de la celda
+ * para una visita, o su complemento (`~indice`, siempre negativo) para una celda del camino.
+ * Así la cola ocupa 4 bytes por evento, sin objetos.
+ * <ul>
+ *   <li>En modo acotado, el productor espera cuando la cola está llena; la memoria queda limitada y
+ *   la búsqueda avanza al ritmo del consumidor.</li>
+ *   <li>En modo no acotado, el arreglo crece según haga falta y el productor nunca espera.</li>
+ * </ul>
+ * Si el consumidor abandona la cola debe llamar a {@link #close()}, para que el productor no quede
+ * bloqueado; a partir de ahí los eventos nuevos se descartan. Una cola cerrada nunca se da por
+ * completa, aunque el productor llegue a llamar a {@link #onFinish(boolean)}.
+ * <p>
+ * Solo se avisa a la otra parte cuando hace falta: al consumidor cuando la cola pasa de vacía a tener
+ * eventos, y al productor cuando una cola acotada llena deja de estarlo.
+ * </p>
+ */
+public class VisitEventQueue implements SolveListener {
+    /** Valor devuelto por {@link #take()} cuando la resolución terminó y no quedan eventos. */
+    public static final int END = Integer.MIN_VALUE;
+    /** Capacidad inicial del modo no acotado. */
+    private static final int CAPACIDAD_INICIAL = 1024;
+
+    /** Buffer circular de eventos. */
+    private int[] eventos;
+    /** `true` si la cola no puede crecer. */
+    private final boolean acotada;
+    /** Posición del siguiente evento a leer. */
+    private int cabeza;
+    /** Número de eventos pendientes. */
+    private int cuenta;
+    /** Indica que el productor llamó a {@link #onFinish(boolean)}. */
+    private boolean terminada;
+    /** Indica que el consumidor abandonó la cola. */
+    private boolean cerrada;
+    /** Resultado informado por el productor. */
+    private boolean encontrado;
+    /** Visitas recibidas del productor. */
+    private int visitas;
+    /** Celdas del camino recibidas del productor. */
+    private int largoCamino;
+
+    /**
+     * Construye una cola no acotada.
+     */
+    public VisitEventQueue() {
+        this.eventos = new int[CAPACIDAD_INICIAL];
+        this.acotada = false;
+    }
+
+    /**
+     * Construye una cola acotada.
+     *
+     * @param capacidad Número máximo de eventos pendientes.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public VisitEventQueue(int capacidad) {
+        if (capacidad <= 0)
+            throw new IllegalArgumentException("Capacidad inválida: " + capacidad);
+        this.eventos = new int[capacidad];
+        this.acotada = true;
+    }
+
+    @Override
+    public synchronized void onVisit(int cell) {
+        this.visitas++;
+        poner(cell);
+    }
+
+    @Override
+    public synchronized void onPath(int cell) {
+        this.largoCamino++;
+        poner(~cell);
+    }
+
+    @Override
+    public synchronized void onFinish(boolean found) {
+        this.encontrado = found;
+        this.terminada = true;
+        notifyAll();
+    }
+
+    /**
+     * Saca el siguiente evento, esperando si todavía no llegó.
+     *
+     * @return El evento, o {@link #END} si la resolución terminó (o la cola se cerró) y no quedan eventos.
+     * @throws InterruptedException si el hilo consumidor es interrumpido mientras espera.
+     */
+    public synchronized int take() throws InterruptedException {
+        while (this.cuenta == 0 && !this.terminada && !this.cerrada)
+            wait();
+        if (this.cuenta == 0)
+            return END;
+        return sacar();
+    }
+
+    /**
+     * Saca sin esperar los eventos disponibles, hasta llenar el arreglo destino.
+     *
+     * @param destino Arreglo donde se copian los eventos.
+     * @return La cantidad de eventos copiados (puede ser 0).
+     */
+    public int drainTo(int[] destino) {
+        return drainTo(destino, destino.length);
+    }
+
+    /**
+     * Saca sin esperar como mucho `maximo` eventos disponibles.
+     *
+     * @param destino Arreglo donde se copian los eventos.
+     * @param maximo Cantidad máxima de eventos a sacar; no puede superar el largo del arreglo.
+     * @return La cantidad de eventos copiados (puede ser 0).
+     */
+    public synchronized int drainTo(int[] destino, int maximo) {
+        int n = Math.min(Math.min(destino.length, maximo), this.cuenta);
+        for (int i = 0; i < n; i++)
+            destino[i] = sacar();
+        return n;
+    }
+
+    /**
+     * Indica que el consumidor ya no leerá más eventos. Libera al productor si estaba esperando.
+     */
+    public synchronized void close() {
+        this.cerrada = true;
+        this.cuenta = 0;
+        notifyAll();
+    }
+
+    /** @return El número de eventos recibidos que todavía no se consumieron. */
+    public synchronized int size() {
+        return this.cuenta;
+    }
+
+    /** @return `true` si el consumidor cerró la cola con {@link #close()}. */
+    public synchronized boolean isClosed() {
+        return this.cerrada;
+    }
+
+    /** @return `true` si la resolución terminó, ya se consumieron todos los eventos y la cola no se cerró. */
+    public synchronized boolean isDrained() {
+        return this.terminada && this.cuenta == 0 && !this.cerrada;
+    }
+
+    /** @return `true` si la resolución terminó con un camino. */
+    public synchronized boolean isFound() {
+        return this.encontrado;
+    }
+
+    /** @return El número de visitas emitidas por el productor. */
+    public synchronized int getVisitCount() {
+        return this.visitas;
+    }
+
+    /** @return El número de celdas del camino emitidas por el productor. */
+    public synchronized int getPathLength() {
+        return this.largoCamino;
+    }
+
+    /**
+     * @param evento Un evento de la cola.
+     * @return `true` si el evento es una celda del camino; `false` si es una visita.
+     */
+    public static boolean isPath(int evento) {
+        return evento < 0;
+    }
+
+    /**
+     * @param evento Un evento de la cola.
+     * @return El índice de la celda del evento.
+     */
+    public static int cellOf(int evento) {
+        return evento < 0 ? ~evento : evento;
+    }
+
+    /**
+     * Agrega un evento, esperando si la cola acotada está llena.
+     *
+     * @throws SolveCancelledException si el productor es interrumpido mientras espera; la cola se cierra
+     * para que el consumidor no tome por completa una resolución a la que le faltan eventos.
+     */
+    private void poner(int evento) {
+        if (this.cerrada)
+            return;
+        if (this.cuenta == this.eventos.length) {
+            if (this.acotada) {
+                try {
+                    while (this.cuenta == this.eventos.length && !this.cerrada)
+                        wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new SolveCancelledException("Búsqueda interrumpida mientras esperaba al consumidor.", false);
+                }
+                if (this.cerrada)
+                    return;
+            } else {
+                crecer();
+            }
+        }
+        this.eventos[(this.cabeza + this.cuenta) % this.eventos.length] = evento;
+        // Solo el consumidor espera con la cola vacía.
+        if (this.cuenta++ == 0)
+            notifyAll();
+    }
+
+    private int sacar() {
+        int evento = this.eventos[this.cabeza];
+        this.cabeza = (this.cabeza + 1) % this.eventos.length;
+        // Solo el productor espera con la cola acotada llena.
+        if (this.cuenta-- == this.eventos.length && this.acotada)
+            notifyAll();
+        return evento;
+    }
+
+    /**
+     * Duplica la capacidad de la cola no acotada, dejando los eventos pendientes al principio.
+     */
+    private void crecer() {
+        int[] nuevos = new int[2 * this.eventos.length];
+        for (int i = 0; i < this.cuenta; i++)
+            nuevos[i] = this.eventos[(this.cabeza + i) % this.eventos.length];
+        this.eventos = nuevos;
+        this.cabeza = 0;
+    }
+}
@@ -0,0 +1,50 @@
+package ec.edu.ups.solver.solverImpl;
+
+/**
+ * Heurísticas disponibles para `MazeSolverAEstrella`. Todas estiman la distancia restante hasta el
+ * destino en el modelo de movimiento de cuatro direcciones sin sobreestimarla, por lo que A* sigue
+ * devolviendo un camino más corto.
+ * <p>
+ * Las estimaciones se expresan en unidades de {@link #ESCALA} por paso, para poder usar una heurística
+ * fraccionaria (la euclidiana) con prioridades enteras.
+ * </p>
+ */
+public enum Heuristic {
+    /** Distancia Manhattan: exacta en un laberinto sin muros de cuatro direcciones. */
+    MANHATTAN {
+        @Override
+        public long estimate(int fila1, int columna1, int fila2, int columna2) {
+            return (long) (Math.abs(fila1 - fila2) + Math.abs(columna1 - columna2)) * ESCALA;
+        }
+    },
+    /** Distancia euclidiana: menos informada que Manhattan en esta cuadrícula, pero admisible. */
+    EUCLIDEAN {
+        @Override
+        public long estimate(int fila1, int columna1, int fila2, int columna2) {
+            long df = fila1 - fila2;
+            long dc = columna1 - columna2;
+            return (long) (Math.sqrt((double) (df * df + dc * dc)) * ESCALA);
+        }
+    },
+    /** Heurística nula: A* se comporta como el algoritmo de Dijkstra. */
+    ZERO {
+        @Override
+        public long estimate(int fila1, int columna1, int fila2, int columna2) {
+            return 0L;
+        }
+    };
+
+    /** Costo de un paso entre celdas vecinas en las unidades de la heurística. */
+    public static final long ESCALA = 1024L;
+
+    /**
+     * Estima la distancia entre dos celdas.
+     *
+     * @param fila1 Fila de la primera celda.
+     * @param columna1 Columna de la primera celda.
+     * @param fila2 Fila de la segunda celda.
+     * @param columna2 Columna de la segunda celda.
+     * @return La estimación, en unidades de {@link #ESCALA} por paso.
+     */
+    public abstract long estimate(int fila1, int columna1, int fila2, int columna2);
+}
@@ -0,0 +1,189 @@
+package ec.edu.ups.solver.solverImpl;
+
+import java.util.Arrays;
+
+/**
+ * Montículo binario de mínimos sobre enteros (índices de celda) con prioridades `long`.
+ * A diferencia de `PriorityQueue<Cell>`, no crea objetos por elemento: guarda el montículo, la
+ * posición de cada elemento y su prioridad en arreglos primitivos indexados por celda. Gracias al
+ * arreglo de posiciones permite disminuir (o cambiar) la prioridad de un elemento ya insertado y
+ * quitar elementos arbitrarios en O(log n).
+ * <p>
+ * Los arreglos se conservan entre búsquedas; {@link #reset(int)} solo limpia los elementos que
+ * quedaron dentro, no todo el arreglo. No es seguro para uso concurrente.
+ * </p>
+ */
+public class IndexedMinHeap {
+    /** Elementos ordenados como montículo binario. */
+    private int[] heap = new int[0];
+    /** Posición de cada elemento dentro de {@link #heap}, o -1 si no está. */
+    private int[] posicion = new int[0];
+    /** Prioridad de cada elemento presente. */
+    private long[] prioridad = new long[0];
+    /** Número de elementos presentes. */
+    private int size;
+
+    /**
+     * Vacía el montículo y asegura capacidad para elementos en el rango `[0, capacidad)`.
+     *
+     * @param capacidad Número de elementos distintos posibles (normalmente, el número de celdas).
+     */
+    public void reset(int capacidad) {
+        if (this.posicion.length < capacidad) {
+            this.heap = new int[capacidad];
+            this.posicion = new int[capacidad];
+            this.prioridad = new long[capacidad];
+            Arrays.fill(this.posicion, -1);
+        } else {
+            for (int i = 0; i < this.size; i++)
+                this.posicion[this.heap[i]] = -1;
+        }
+        this.size = 0;
+    }
+
+    /** @return `true` si no quedan elementos. */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /** @return El número de elementos presentes. */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param item Un elemento.
+     * @return `true` si el elemento está en el montículo.
+     */
+    public boolean contains(int item) {
+        return this.posicion[item] >= 0;
+    }
+
+    /**
+     * @param item Un elemento presente.
+     * @return Su prioridad actual.
+     */
+    public long priorityOf(int item) {
+        return this.prioridad[item];
+    }
+
+    /**
+     * Inserta un elemento o, si ya está, le asigna la nueva prioridad (mayor o menor).
+     *
+     * @param item El elemento.
+     * @param key Su prioridad.
+     */
+    public void insertOrUpdate(int item, long key) {
+        int pos = this.posicion[item];
+        if (pos < 0) {
+            pos = this.size++;
+            this.heap[pos] = item;
+            this.posicion[item] = pos;
+            this.prioridad[item] = key;
+            subir(pos);
+            return;
+        }
+        long anterior = this.prioridad[item];
+        this.prioridad[item] = key;
+        if (key < anterior)
+            subir(pos);
+        else if (key > anterior)
+            bajar(pos);
+    }
+
+    /**
+     * Inserta un elemento o disminuye su prioridad si la nueva es menor (operación *decrease-key*).
+     * Si el elemento ya tiene una prioridad menor o igual, no hace nada.
+     *
+     * @param item El elemento.
+     * @param key La prioridad propuesta.
+     * @return `true` si el elemento se insertó o su prioridad disminuyó.
+     */
+    public boolean insertOrDecrease(int item, long key) {
+        int pos = this.posicion[item];
+        if (pos >= 0 && this.prioridad[item] <= key)
+            return false;
+        insertOrUpdate(item, key);
+        return true;
+    }
+
+    /** @return El elemento de menor prioridad, sin quitarlo. */
+    public int peek() {
+        return this.heap[0];
+    }
+
+    /** @return La menor prioridad presente. */
+    public long peekPriority() {
+        return this.prioridad[this.heap[0]];
+    }
+
+    /**
+     * Quita y devuelve el elemento de menor prioridad.
+     *
+     * @return El elemento quitado.
+     */
+    public int poll() {
+        int item = this.heap[0];
+        quitarEn(0);
+        return item;
+    }
+
+    /**
+     * Quita un elemento arbitrario si está presente.
+     *
+     * @param item El elemento a quitar.
+     */
+    public void remove(int item) {
+        int pos = this.posicion[item];
+        if (pos >= 0)
+            quitarEn(pos);
+    }
+
+    private void quitarEn(int pos) {
+        int item = this.heap[pos];
+        this.posicion[item] = -1;
+        int ultimo = this.heap[--this.size];
+        if (pos == this.size)
+            return;
+        this.heap[pos] = ultimo;
+        this.posicion[ultimo] = pos;
+        subir(pos);
+        bajar(this.posicion[ultimo]);
+    }
+
+    private void subir(int pos) {
+        int item = this.heap[pos];
+        long key = this.prioridad[item];
+        while (pos > 0) {
+            int padre = (pos - 1) >>> 1;
+            int itemPadre = this.heap[padre];
+            if (this.prioridad[itemPadre] <= key)
+                break;
+            this.heap[pos] = itemPadre;
+            this.posicion[itemPadre] = pos;
+            pos = padre;
+        }
+        this.heap[pos] = item;
+        this.posicion[item] = pos;
+    }
+
+    private void bajar(int pos) {
+        int item = this.heap[pos];
+        long key = this.prioridad[item];
+        int mitad = this.size >>> 1;
+        while (pos < mitad) {
+            int hijo = 2 * pos + 1;
+            int derecho = hijo + 1;
+            if (derecho < this.size && this.prioridad[this.heap[derecho]] < this.prioridad[this.heap[hijo]])
+                hijo = derecho;
+            int itemHijo = this.heap[hijo];
+            if (key <= this.prioridad[itemHijo])
+                break;
+            this.heap[pos] = itemHijo;
+            this.posicion[itemHijo] = pos;
+            pos = hijo;
+        }
+        this.heap[pos] = item;
+        this.posicion[item] = pos;
+    }
+}
@@ -0,0 +1,231 @@
+package ec.edu.ups.solver.solverImpl;
+
+import java.util.Arrays;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.SolveListener;
+
+/**
+ * `MazeSolverAEstrella` implementa la interfaz `MazeSolver` con el algoritmo A*.
+ * Expande primero las celdas con menor `g + h`, donde `g` es la distancia recorrida desde el inicio y
+ * `h` la estimación de la {@link Heuristic} elegida hasta el destino. Con una heurística admisible
+ * encuentra el camino más corto, como BFS, pero en laberintos abiertos expande muchas menos celdas.
+ * Con {@link Heuristic#ZERO} se comporta como Dijkstra.
+ * <p>
+ * El conjunto abierto es un {@link IndexedMinHeap} de índices de celda con *decrease-key*, y las
+ * distancias, padres y marcas son arreglos `int[]` que se reutilizan entre llamadas.
+ * A igual `f` se prefiere la celda más cercana al destino, lo que evita expandir caminos simétricos.
+ * </p>
+ */
+public class MazeSolverAEstrella extends MazeSolverCancelable {
+    /** Bits reservados en la prioridad para el desempate por cercanía al destino. */
+    private static final int BITS_DESEMPATE = 20;
+
+    /** La heurística usada para estimar la distancia restante. */
+    private final Heuristic heuristica;
+    /** Conjunto abierto. */
+    private final IndexedMinHeap abiertos = new IndexedMinHeap();
+    /** Distancia desde el inicio de cada celda alcanzada. */
+    private int[] distancia = new int[0];
+    /** Padre de cada celda alcanzada. */
+    private int[] padre = new int[0];
+    /** Generación en la que se alcanzó cada celda. */
+    private int[] alcanzada = new int[0];
+    /** Generación en la que se cerró (expandió) cada celda. */
+    private int[] cerrada = new int[0];
+    /** Celdas expandidas, en orden. */
+    private int[] visitadas = new int[0];
+    /** Buffer para el camino resultante. */
+    private int[] camino = new int[0];
+    /** Generación de la búsqueda actual. */
+    private int generacion;
+    /** Número de celdas visitadas en la última búsqueda. */
+    private int nVisitadas;
+    /** Receptor de eventos de la resolución en curso en modo *streaming*, o `null`. */
+    private SolveListener oyente;
+
+    /**
+     * Construye un solucionador A* con la heurística Manhattan.
+     */
+    public MazeSolverAEstrella() {
+        this(Heuristic.MANHATTAN);
+    }
+
+    /**
+     * Construye un solucionador A* con la heurística indicada.
+     *
+     * @param heuristica La heurística a utilizar.
+     */
+    public MazeSolverAEstrella(Heuristic heuristica) {
+        this.heuristica = heuristica;
+    }
+
+    @Override
+    public SolveResults getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        return getPath(MazeGrid.fromCells(paramArrayOfCell, paramCell1, paramCell2));
+    }
+
+    /**
+     * Busca el camino más corto con A*.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return Un objeto `SolveResults` con las celdas expandidas en orden y el camino del inicio al fin
+     * (vacío si no existe).
+     */
+    @Override
+    public SolveResults getPath(MazeGrid grid) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        int largo = buscar(grid);
+        return grid.toResults(this.visitadas, this.nVisitadas, this.camino, largo);
+    }
+
+    /**
+     * Resuelve emitiendo cada celda al expandirla y luego el camino.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @param listener El receptor de los eventos.
+     * @return `true` si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, SolveListener listener) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        this.oyente = listener;
+        int largo;
+        try {
+            largo = buscar(grid);
+        } finally {
+            this.oyente = null;
+        }
+        for (int i = 0; i < largo; i++)
+            listener.onPath(this.camino[i]);
+        listener.onFinish(largo > 0);
+        return largo > 0;
+    }
+
+    /**
+     * Ejecuta la búsqueda dejando las celdas visitadas y el camino en los buffers.
+     *
+     * @return El número de celdas del camino, o 0 si no hay camino.
+     */
+    private int buscar(MazeGrid grid) {
+        if (!grid.mayConnect(grid.getStart(), grid.getEnd())) {
+            this.nVisitadas = 0;
+            return 0;
+        }
+        int n = grid.size();
+        prepararBuffers(n);
+        this.abiertos.reset(n);
+        int gen = this.generacion;
+        int filas = grid.getRows();
+        int columnas = grid.getCols();
+        int inicio = grid.getStart();
+        int fin = grid.getEnd();
+        int filaFin = fin / columnas;
+        int columnaFin = fin % columnas;
+
+        this.distancia[inicio] = 0;
+        this.padre[inicio] = -1;
+        this.alcanzada[inicio] = gen;
+        this.abiertos.insertOrUpdate(inicio, prioridad(0, inicio / columnas, inicio % columnas, filaFin, columnaFin));
+
+        this.nVisitadas = 0;
+        boolean encontrado = false;
+        while (!this.abiertos.isEmpty()) {
+            this.cancelacion.checkpoint();
+            int actual = this.abiertos.poll();
+            this.cerrada[actual] = gen;
+            visitar(actual);
+            if (actual == fin) {
+                encontrado = true;
+                break;
+            }
+            int fila = actual / columnas;
+            int columna = actual - fila * columnas;
+            int g = this.distancia[actual] + 1;
+            // Mismo orden de vecinos que MazeSolverBFS: abajo, arriba, derecha, izquierda.
+            if (fila + 1 < filas)
+                relajar(grid, actual + columnas, actual, g, fila + 1, columna, filaFin, columnaFin, gen);
+            if (fila > 0)
+                relajar(grid, actual - columnas, actual, g, fila - 1, columna, filaFin, columnaFin, gen);
+            if (columna + 1 < columnas)
+                relajar(grid, actual + 1, actual, g, fila, columna + 1, filaFin, columnaFin, gen);
+            if (columna > 0)
+                relajar(grid, actual - 1, actual, g, fila, columna - 1, filaFin, columnaFin, gen);
+        }
+
+        int largo = 0;
+        if (encontrado) {
+            for (int c = fin; c != -1; c = this.padre[c])
+                largo++;
+            int pos = largo;
+            for (int c = fin; c != -1; c = this.padre[c])
+                this.camino[--pos] = c;
+        }
+        return largo;
+    }
+
+    /**
+     * Intenta mejorar la distancia de un vecino pasando por la celda actual.
+     */
+    private void relajar(MazeGrid grid, int vecino, int actual, int g, int fila, int columna,
+                         int filaFin, int columnaFin, int gen) {
+        if (this.cerrada[vecino] == gen || grid.isWall(vecino))
+            return;
+        if (this.alcanzada[vecino] == gen && this.distancia[vecino] <= g)
+            return;
+        this.alcanzada[vecino] = gen;
+        this.distancia[vecino] = g;
+        this.padre[vecino] = actual;
+        this.abiertos.insertOrUpdate(vecino, prioridad(g, fila, columna, filaFin, columnaFin));
+    }
+
+    /**
+     * Calcula la prioridad de una celda: `f = g + h` en los bits altos y `h` (en pasos) en los bajos,
+     * de modo que a igual `f` salga primero la celda más cercana al destino.
+     */
+    private long prioridad(int g, int fila, int columna, int filaFin, int columnaFin) {
+        long h = this.heuristica.estimate(fila, columna, filaFin, columnaFin);
+        long f = g * Heuristic.ESCALA + h;
+        long desempate = Math.min(h / Heuristic.ESCALA, (1L << BITS_DESEMPATE) - 1);
+        return (f << BITS_DESEMPATE) | desempate;
+    }
+
+    /**
+     * Registra una celda visitada y la emite si hay un receptor.
+     */
+    private void visitar(int celda) {
+        this.visitadas[this.nVisitadas++] = celda;
+        if (this.oyente != null)
+            this.oyente.onVisit(celda);
+    }
+
+    /**
+     * Asegura que los buffers tengan capacidad para `n` celdas y avanza la generación.
+     *
+     * @param n Número de celdas del laberinto.
+     */
+    private void prepararBuffers(int n) {
+        if (this.distancia.length < n) {
+            this.distancia = new int[n];
+            this.padre = new int[n];
+            this.alcanzada = new int[n];
+            this.cerrada = new int[n];
+            this.visitadas = new int[n];
+            this.camino = new int[n];
+            this.generacion = 0;
+        }
+        if (++this.generacion == Integer.MAX_VALUE) {
+            Arrays.fill(this.alcanzada, 0);
+            Arrays.fill(this.cerrada, 0);
+            this.generacion = 1;
+        }
+    }
+
+    /** @return La heurística que usa este solucionador. */
+    public Heuristic getHeuristic() {
+        return this.heuristica;
+    }
+}
@@ -7,13 +7,12 @@ import java.util.LinkedList;
 import ec.edu.ups.models.Cell;
 import ec.edu.ups.models.CellState;
 import ec.edu.ups.models.SolveResults;
-import ec.edu.ups.solver.MazeSolver;
 
 /**
  * `MazeSolverBFS` implementa la interfaz `MazeSolver` utilizando el algoritmo de Búsqueda en Amplitud (BFS).
  * Esta clase encuentra el camino más corto desde una celda inicial hasta una celda final en un laberinto dado.
  */
-public class MazeSolverBFS implements MazeSolver {
+public class MazeSolverBFS extends MazeSolverCancelable {
     /**
      * Encuentra un camino desde la celda de inicio hasta la celda final en el laberinto dado utilizando el algoritmo BFS.
      *
@@ -44,6 +43,7 @@ public class MazeSolverBFS implements MazeSolver {
         arrayOfBoolean[cell1.row][cell1.col] = true; // Marcar la celda de inicio como visitada.
         // Bucle de recorrido BFS.
         while (!linkedList.isEmpty()) {
+            this.cancelacion.checkpoint(); // Permitir cancelar la búsqueda.
             Cell cell = linkedList.poll(); // Desencolar la celda actual.
             arrayList1.add(cell); // Añadir la celda a la lista de visitadas.
             if (cell.equals(cell2)) // Si la celda actual es la meta, romper el bucle.
@@ -78,6 +78,6 @@ public class MazeSolverBFS implements MazeSolver {
         } else {
             arrayList2.clear(); // Si no se llegó al inicio, el camino está vacío.
         }
-        return new SolveResults(arrayList1, arrayList2); // Devolver el resultado.
+        return SolveResults.fromCells(paramArrayOfCell, arrayList1, arrayList2); // Devolver el resultado.
     }
 }
\ No newline at end of file
@@ -0,0 +1,242 @@
+package ec.edu.ups.solver.solverImpl;
+
+import java.util.Arrays;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.SolveListener;
+
+/**
+ * `MazeSolverBFSBidireccional` implementa la interfaz `MazeSolver` con una búsqueda en amplitud
+ * bidireccional: avanza una frontera desde la celda de inicio y otra desde la celda de fin, alternando
+ * niveles completos (siempre la frontera más pequeña), y se detiene cuando ambas se tocan.
+ * Mientras BFS explora un disco de radio `d`, aquí se exploran dos discos de radio `d/2`, con lo que
+ * en distancias largas se visita aproximadamente la mitad de las celdas o menos.
+ * <p>
+ * Al terminar el nivel en el que las fronteras se tocan se elige el punto de encuentro que da el camino
+ * más corto, y se unen las dos cadenas de padres en un único camino del inicio al fin. La lista de
+ * celdas visitadas conserva el orden intercalado en que ambas fronteras se expandieron, por lo que la
+ * animación de `MazeFrame` funciona igual que con los demás algoritmos.
+ * </p>
+ */
+public class MazeSolverBFSBidireccional extends MazeSolverCancelable {
+    /** Lado que parte del inicio. */
+    private static final int INICIO = 0;
+    /** Lado que parte del fin. */
+    private static final int FIN = 1;
+
+    /** Cola de cada lado. */
+    private final int[][] cola = new int[2][0];
+    /** Padre de cada celda en cada lado. */
+    private final int[][] padre = new int[2][0];
+    /** Distancia desde el origen de cada lado. */
+    private final int[][] distancia = new int[2][0];
+    /** Generación en la que cada lado alcanzó cada celda. */
+    private final int[][] marca = new int[2][0];
+    /** Celdas expandidas por ambos lados, en orden intercalado. */
+    private int[] visitadas = new int[0];
+    /** Buffer para el camino resultante. */
+    private int[] camino = new int[0];
+    /** Generación de la búsqueda actual. */
+    private int generacion;
+    /** Número de celdas visitadas en la última búsqueda. */
+    private int nVisitadas;
+    /** Receptor de eventos de la resolución en curso en modo *streaming*, o `null`. */
+    private SolveListener oyente;
+
+    @Override
+    public SolveResults getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        return getPath(MazeGrid.fromCells(paramArrayOfCell, paramCell1, paramCell2));
+    }
+
+    /**
+     * Busca el camino más corto expandiendo alternadamente desde ambos extremos.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return Un objeto `SolveResults` con las celdas visitadas (intercaladas) y el camino del inicio al fin
+     * (vacío si no existe).
+     */
+    @Override
+    public SolveResults getPath(MazeGrid grid) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        int largo = buscar(grid);
+        return grid.toResults(this.visitadas, this.nVisitadas, this.camino, largo);
+    }
+
+    /**
+     * Resuelve emitiendo cada celda al expandirla y luego el camino.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @param listener El receptor de los eventos.
+     * @return `true` si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, SolveListener listener) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        this.oyente = listener;
+        int largo;
+        try {
+            largo = buscar(grid);
+        } finally {
+            this.oyente = null;
+        }
+        for (int i = 0; i < largo; i++)
+            listener.onPath(this.camino[i]);
+        listener.onFinish(largo > 0);
+        return largo > 0;
+    }
+
+    /**
+     * Ejecuta la búsqueda dejando las celdas visitadas y el camino en los buffers.
+     *
+     * @return El número de celdas del camino, o 0 si no hay camino.
+     */
+    private int buscar(MazeGrid grid) {
+        if (!grid.mayConnect(grid.getStart(), grid.getEnd())) {
+            this.nVisitadas = 0;
+            return 0;
+        }
+        int n = grid.size();
+        prepararBuffers(n);
+        int gen = this.generacion;
+        int filas = grid.getRows();
+        int columnas = grid.getCols();
+        int inicio = grid.getStart();
+        int fin = grid.getEnd();
+
+        int[] cabeza = new int[2];
+        int[] ultimo = new int[2];
+        sembrar(INICIO, inicio, gen, ultimo);
+        sembrar(FIN, fin, gen, ultimo);
+
+        this.nVisitadas = 0;
+        int mejorLargo = Integer.MAX_VALUE;
+        int encuentroInicio = -1; // Celda del lado del inicio en el punto de encuentro.
+        int encuentroFin = -1;    // Celda del lado del fin en el punto de encuentro.
+
+        if (inicio == fin) {
+            visitar(inicio);
+            mejorLargo = 0;
+            encuentroInicio = inicio;
+            encuentroFin = inicio;
+        }
+
+        while (mejorLargo == Integer.MAX_VALUE && cabeza[INICIO] < ultimo[INICIO] && cabeza[FIN] < ultimo[FIN]) {
+            // Expandir un nivel completo de la frontera más pequeña.
+            int lado = (ultimo[INICIO] - cabeza[INICIO]) <= (ultimo[FIN] - cabeza[FIN]) ? INICIO : FIN;
+            int otro = 1 - lado;
+            int[] q = this.cola[lado];
+            int[] miMarca = this.marca[lado];
+            int[] suMarca = this.marca[otro];
+            int[] miDist = this.distancia[lado];
+            int[] suDist = this.distancia[otro];
+            int finNivel = ultimo[lado];
+            int h = cabeza[lado];
+            int t = ultimo[lado];
+            while (h < finNivel) {
+                this.cancelacion.checkpoint();
+                int actual = q[h++];
+                visitar(actual);
+                int fila = actual / columnas;
+                int columna = actual - fila * columnas;
+                for (int d = 0; d < 4; d++) {
+                    int vecino;
+                    if (d == 0) {
+                        if (fila + 1 >= filas) continue;
+                        vecino = actual + columnas;
+                    } else if (d == 1) {
+                        if (fila == 0) continue;
+                        vecino = actual - columnas;
+                    } else if (d == 2) {
+                        if (columna + 1 >= columnas) continue;
+                        vecino = actual + 1;
+                    } else {
+                        if (columna == 0) continue;
+                        vecino = actual - 1;
+                    }
+                    if (grid.isWall(vecino))
+                        continue;
+                    if (suMarca[vecino] == gen) {
+                        // Las fronteras se tocan: candidato a punto de encuentro.
+                        int largo = miDist[actual] + 1 + suDist[vecino];
+                        if (largo < mejorLargo) {
+                            mejorLargo = largo;
+                            encuentroInicio = lado == INICIO ? actual : vecino;
+                            encuentroFin = lado == INICIO ? vecino : actual;
+                        }
+                    }
+                    if (miMarca[vecino] != gen) {
+                        miMarca[vecino] = gen;
+                        miDist[vecino] = miDist[actual] + 1;
+                        this.padre[lado][vecino] = actual;
+                        q[t++] = vecino;
+                    }
+                }
+            }
+            cabeza[lado] = h;
+            ultimo[lado] = t;
+        }
+
+        int largo = 0;
+        if (encuentroInicio != -1) {
+            // Cadena del inicio hasta el encuentro, escrita al derecho...
+            for (int c = encuentroInicio; c != -1; c = this.padre[INICIO][c])
+                largo++;
+            int pos = largo;
+            for (int c = encuentroInicio; c != -1; c = this.padre[INICIO][c])
+                this.camino[--pos] = c;
+            // ...seguida de la cadena desde el encuentro hasta el fin.
+            if (encuentroFin != encuentroInicio) {
+                for (int c = encuentroFin; c != -1; c = this.padre[FIN][c])
+                    this.camino[largo++] = c;
+            }
+        }
+        return largo;
+    }
+
+    /**
+     * Coloca el origen de un lado en su cola.
+     */
+    private void sembrar(int lado, int celda, int gen, int[] ultimo) {
+        this.cola[lado][0] = celda;
+        this.marca[lado][celda] = gen;
+        this.distancia[lado][celda] = 0;
+        this.padre[lado][celda] = -1;
+        ultimo[lado] = 1;
+    }
+
+    /**
+     * Registra una celda visitada y la emite si hay un receptor.
+     */
+    private void visitar(int celda) {
+        this.visitadas[this.nVisitadas++] = celda;
+        if (this.oyente != null)
+            this.oyente.onVisit(celda);
+    }
+
+    /**
+     * Asegura que los buffers tengan capacidad para `n` celdas y avanza la generación.
+     *
+     * @param n Número de celdas del laberinto.
+     */
+    private void prepararBuffers(int n) {
+        if (this.visitadas.length < n) {
+            for (int lado = 0; lado < 2; lado++) {
+                this.cola[lado] = new int[n];
+                this.padre[lado] = new int[n];
+                this.distancia[lado] = new int[n];
+                this.marca[lado] = new int[n];
+            }
+            this.visitadas = new int[n];
+            this.camino = new int[n];
+            this.generacion = 0;
+        }
+        if (++this.generacion == Integer.MAX_VALUE) {
+            Arrays.fill(this.marca[INICIO], 0);
+            Arrays.fill(this.marca[FIN], 0);
+            this.generacion = 1;
+        }
+    }
+}
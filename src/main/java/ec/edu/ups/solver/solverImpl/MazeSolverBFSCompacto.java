@@ -0,0 +1,222 @@
+package ec.edu.ups.solver.solverImpl;
+
+import java.util.Arrays;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.SolveListener;
+
+/**
+ * `MazeSolverBFSCompacto` es una versión de `MazeSolverBFS` que trabaja sobre índices de celda
+ * (`fila * columnas + columna`) en lugar de objetos `Cell`. Mantiene el mismo orden de exploración
+ * (abajo, arriba, derecha, izquierda), por lo que produce exactamente las mismas celdas visitadas
+ * y el mismo camino, pero sin asignar memoria por celda:
+ * <ul>
+ *   <li>La cola es un `int[]` preasignado. Como cada celda se encola a lo sumo una vez, la cola nunca
+ *   necesita dar la vuelta y su prefijo ya desencolado es, a la vez, el registro de visitas.</li>
+ *   <li>Los padres se guardan en un `int[]` indexado por celda, en lugar de un `HashMap`.</li>
+ *   <li>Las visitas se marcan con un número de generación, así no hay que limpiar nada entre búsquedas.</li>
+ * </ul>
+ * Los arreglos se conservan entre llamadas y solo crecen si llega un laberinto más grande, por lo
+ * que tras el calentamiento {@link #buscar(MazeGrid, int, int)} no asigna memoria. Por lo mismo,
+ * una instancia no debe usarse desde varios hilos a la vez.
+ */
+public class MazeSolverBFSCompacto extends MazeSolverCancelable {
+    /** Cola de índices; `cola[0..cabeza)` es además el orden de visita. */
+    private int[] cola = new int[0];
+    /** Padre de cada celda alcanzada, válido solo si su marca es la generación actual. */
+    private int[] padre = new int[0];
+    /** Generación en la que se alcanzó cada celda. */
+    private int[] marca = new int[0];
+    /** Camino reconstruido, desde el inicio hasta el fin. */
+    private int[] camino = new int[0];
+    /** Generación de la búsqueda actual. */
+    private int generacion;
+    /** Número de celdas desencoladas (visitadas) en la última búsqueda. */
+    private int visitadas;
+    /** Número de celdas del camino encontrado en la última búsqueda (0 si no hay camino). */
+    private int largoCamino;
+    /** Receptor de eventos de la resolución en curso en modo *streaming*, o `null`. */
+    private SolveListener oyente;
+
+    /**
+     * Encuentra el camino más corto usando la matriz de celdas clásica. Construye una sola vez la
+     * representación compacta y delega en {@link #getPath(MazeGrid)}.
+     *
+     * @param paramArrayOfCell Un arreglo 2D de objetos `Cell` que representa la cuadrícula del laberinto.
+     * @param paramCell1 La `Cell` de inicio.
+     * @param paramCell2 La `Cell` final.
+     * @return Un objeto `SolveResults` con las celdas visitadas y el camino más corto.
+     */
+    @Override
+    public SolveResults getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        return getPath(MazeGrid.fromCells(paramArrayOfCell, paramCell1, paramCell2));
+    }
+
+    /**
+     * Encuentra el camino más corto sobre la representación compacta del laberinto.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return Un objeto `SolveResults` con las celdas visitadas y el camino más corto
+     * (vacío si no existe).
+     */
+    @Override
+    public SolveResults getPath(MazeGrid grid) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        buscar(grid, grid.getStart(), grid.getEnd());
+        return grid.toResults(this.cola, this.visitadas, this.camino, this.largoCamino);
+    }
+
+    /**
+     * Resuelve emitiendo cada celda al desencolarla y luego el camino.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @param listener El receptor de los eventos.
+     * @return `true` si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, SolveListener listener) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        this.oyente = listener;
+        try {
+            buscar(grid, grid.getStart(), grid.getEnd());
+        } finally {
+            this.oyente = null;
+        }
+        for (int i = 0; i < this.largoCamino; i++)
+            listener.onPath(this.camino[i]);
+        listener.onFinish(this.largoCamino > 0);
+        return this.largoCamino > 0;
+    }
+
+    /**
+     * Ejecuta la búsqueda en amplitud sin materializar ninguna lista. Tras la llamada, el orden de
+     * visita y el camino pueden consultarse con {@link #getVisitCount()}, {@link #getVisit(int)},
+     * {@link #getPathLength()} y {@link #getPathCell(int)}.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param inicio Índice de la celda de inicio.
+     * @param fin Índice de la celda de fin.
+     * @return La distancia en pasos del inicio al fin, o -1 si el fin no es alcanzable.
+     */
+    public int buscar(MazeGrid grid, int inicio, int fin) {
+        if (!grid.mayConnect(inicio, fin)) {
+            this.visitadas = 0;
+            this.largoCamino = 0;
+            return -1;
+        }
+        prepararBuffers(grid.size());
+        int gen = this.generacion;
+        int[] cola = this.cola;
+        int[] padre = this.padre;
+        int[] marca = this.marca;
+        int filas = grid.getRows();
+        int columnas = grid.getCols();
+
+        int cabeza = 0;
+        int colaFin = 0;
+        cola[colaFin++] = inicio;
+        marca[inicio] = gen;
+        padre[inicio] = -1;
+        boolean encontrado = false;
+
+        while (cabeza < colaFin) {
+            this.cancelacion.checkpoint();
+            int actual = cola[cabeza++]; // Desencolar; queda registrada como visitada.
+            if (this.oyente != null)
+                this.oyente.onVisit(actual);
+            if (actual == fin) {
+                encontrado = true;
+                break;
+            }
+            int fila = actual / columnas;
+            int columna = actual - fila * columnas;
+            // Mismo orden que MazeSolverBFS: abajo, arriba, derecha, izquierda.
+            if (fila + 1 < filas)
+                colaFin = encolar(grid, actual + columnas, actual, gen, colaFin);
+            if (fila > 0)
+                colaFin = encolar(grid, actual - columnas, actual, gen, colaFin);
+            if (columna + 1 < columnas)
+                colaFin = encolar(grid, actual + 1, actual, gen, colaFin);
+            if (columna > 0)
+                colaFin = encolar(grid, actual - 1, actual, gen, colaFin);
+        }
+        this.visitadas = cabeza;
+
+        if (!encontrado) {
+            this.largoCamino = 0;
+            return -1;
+        }
+        // Reconstruir el camino desde el fin y escribirlo al derecho en el buffer.
+        int largo = 0;
+        for (int c = fin; c != -1; c = padre[c])
+            largo++;
+        int pos = largo;
+        for (int c = fin; c != -1; c = padre[c])
+            this.camino[--pos] = c;
+        this.largoCamino = largo;
+        return largo - 1;
+    }
+
+    /**
+     * Encola un vecino si es transitable y no se ha alcanzado en esta búsqueda.
+     *
+     * @return La nueva posición del final de la cola.
+     */
+    private int encolar(MazeGrid grid, int vecino, int actual, int gen, int colaFin) {
+        if (this.marca[vecino] != gen && !grid.isWall(vecino)) {
+            this.marca[vecino] = gen;
+            this.padre[vecino] = actual;
+            this.cola[colaFin++] = vecino;
+        }
+        return colaFin;
+    }
+
+    /**
+     * Asegura que los buffers tengan capacidad para `n` celdas y avanza la generación.
+     * Solo asigna memoria si el laberinto es mayor que cualquiera de los anteriores.
+     *
+     * @param n Número de celdas del laberinto.
+     */
+    private void prepararBuffers(int n) {
+        if (this.cola.length < n) {
+            this.cola = new int[n];
+            this.padre = new int[n];
+            this.marca = new int[n];
+            this.camino = new int[n];
+            this.generacion = 0;
+        }
+        if (++this.generacion == Integer.MAX_VALUE) {
+            Arrays.fill(this.marca, 0);
+            this.generacion = 1;
+        }
+    }
+
+    /** @return El número de celdas visitadas en la última búsqueda. */
+    public int getVisitCount() {
+        return this.visitadas;
+    }
+
+    /**
+     * @param i Posición en el orden de visita, entre 0 y {@link #getVisitCount()} - 1.
+     * @return El índice de la celda visitada en esa posición.
+     */
+    public int getVisit(int i) {
+        return this.cola[i];
+    }
+
+    /** @return El número de celdas del último camino encontrado, o 0 si no hubo camino. */
+    public int getPathLength() {
+        return this.largoCamino;
+    }
+
+    /**
+     * @param i Posición en el camino, entre 0 (inicio) y {@link #getPathLength()} - 1 (fin).
+     * @return El índice de la celda del camino en esa posición.
+     */
+    public int getPathCell(int i) {
+        return this.camino[i];
+    }
+}
@@ -0,0 +1,339 @@
+package ec.edu.ups.solver.solverImpl;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.SolveListener;
+
+/**
+ * `MazeSolverBFSParalelo` implementa una búsqueda en amplitud sincronizada por niveles que expande
+ * cada frontera en paralelo sobre el `ForkJoinPool` común.
+ * <ul>
+ *   <li>Todas las fronteras viven en un único `int[]`: cada nivel es un tramo contiguo y el siguiente se
+ *   va escribiendo a continuación, por lo que el arreglo completo es también el orden de visita.</li>
+ *   <li>Las celdas se reclaman de forma atómica en un mapa de bits compartido (`AtomicLongArray` con
+ *   *compare-and-set*); solo el hilo que gana la reclamación escribe el padre de la celda, así que el
+ *   arreglo de padres no necesita bloqueos.</li>
+ *   <li>Cada tarea hoja acumula sus descubrimientos en un buffer y luego reserva de una sola vez su
+ *   bloque en el siguiente nivel. Los buffers se toman de una reserva del solucionador y se devuelven al
+ *   terminar, así que los niveles no crean arreglos nuevos.</li>
+ * </ul>
+ * Hay dos umbrales independientes: los niveles con menos celdas que el umbral de frontera se expanden en
+ * el hilo que llama, y los laberintos con menos celdas que el umbral de laberinto se resuelven
+ * directamente con `MazeSolverBFSCompacto`.
+ * Como cada celda se reclama en el primer nivel en que se alcanza, la longitud del camino es exactamente
+ * la del BFS secuencial; el orden de visita dentro de un nivel (y, por tanto, cuál de los caminos más
+ * cortos se elige) puede variar entre ejecuciones.
+ */
+public class MazeSolverBFSParalelo extends MazeSolverCancelable {
+    /** Umbral de laberinto por defecto. */
+    public static final int UMBRAL_LABERINTO_POR_DEFECTO = 4096;
+    /** Umbral de frontera por defecto. */
+    public static final int UMBRAL_FRONTERA_POR_DEFECTO = 4096;
+    /** Número de celdas de frontera que procesa cada tarea hoja. */
+    private static final int GRANO = 1024;
+
+    /** Número de celdas del laberinto por debajo del cual se usa el motor secuencial. */
+    private final int umbralLaberinto;
+    /** Tamaño de frontera por debajo del cual un nivel se expande en el hilo que llama. */
+    private final int umbralFrontera;
+    /** Motor secuencial para laberintos pequeños. */
+    private final MazeSolverBFSCompacto secuencial = new MazeSolverBFSCompacto();
+    /** Buffers de descubrimientos libres, de `4 * GRANO` celdas; hay tantos como tareas hoja simultáneas. */
+    private final ConcurrentLinkedQueue<int[]> buffers = new ConcurrentLinkedQueue<>();
+
+    /** Fronteras de todos los niveles, una tras otra. */
+    private int[] cola = new int[0];
+    /** Padre de cada celda reclamada. */
+    private int[] padre = new int[0];
+    /** Mapa de bits de celdas reclamadas. */
+    private AtomicLongArray reclamadas = new AtomicLongArray(0);
+    /** Buffer para el camino resultante. */
+    private int[] camino = new int[0];
+
+    /** Cuadrícula de la búsqueda en curso. */
+    private MazeGrid grid;
+    /** Índice del destino de la búsqueda en curso. */
+    private int fin;
+    /** Posición donde se escribirá la siguiente celda descubierta. */
+    private final AtomicInteger siguienteLibre = new AtomicInteger();
+    /** Indica que algún hilo reclamó el destino. */
+    private volatile boolean encontrado;
+    /** Número de celdas visitadas en la última búsqueda. */
+    private int nVisitadas;
+    /** Receptor de eventos de la resolución en curso en modo *streaming*, o `null`. */
+    private SolveListener oyente;
+
+    /**
+     * Construye el solucionador con los umbrales por defecto.
+     */
+    public MazeSolverBFSParalelo() {
+        this(UMBRAL_FRONTERA_POR_DEFECTO);
+    }
+
+    /**
+     * Construye el solucionador con un umbral de frontera propio y el umbral de laberinto por defecto.
+     *
+     * @param umbralFrontera Tamaño de frontera por debajo del cual un nivel se expande sin paralelismo.
+     */
+    public MazeSolverBFSParalelo(int umbralFrontera) {
+        this(UMBRAL_LABERINTO_POR_DEFECTO, umbralFrontera);
+    }
+
+    /**
+     * Construye el solucionador con los dos umbrales propios.
+     *
+     * @param umbralLaberinto Número de celdas del laberinto por debajo del cual se resuelve con
+     * `MazeSolverBFSCompacto`.
+     * @param umbralFrontera Tamaño de frontera por debajo del cual un nivel se expande sin paralelismo.
+     */
+    public MazeSolverBFSParalelo(int umbralLaberinto, int umbralFrontera) {
+        this.umbralLaberinto = Math.max(1, umbralLaberinto);
+        this.umbralFrontera = Math.max(1, umbralFrontera);
+    }
+
+    @Override
+    public SolveResults getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        return getPath(MazeGrid.fromCells(paramArrayOfCell, paramCell1, paramCell2));
+    }
+
+    /**
+     * Busca el camino más corto expandiendo cada nivel en paralelo.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return Un objeto `SolveResults` con las celdas visitadas nivel por nivel y un camino más corto
+     * del inicio al fin (vacío si no existe).
+     */
+    @Override
+    public SolveResults getPath(MazeGrid grid) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        if (grid.size() < this.umbralLaberinto)
+            return this.secuencial.getPath(grid);
+        int largo = buscar(grid);
+        return grid.toResults(this.cola, this.nVisitadas, this.camino, largo);
+    }
+
+    /**
+     * Resuelve emitiendo las celdas de cada nivel cuando el nivel termina de expandirse (desde el hilo
+     * que llama, en el orden en que quedaron en la cola) y luego el camino.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @param listener El receptor de los eventos.
+     * @return `true` si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, SolveListener listener) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        if (grid.size() < this.umbralLaberinto)
+            return this.secuencial.solve(grid, listener);
+        this.oyente = listener;
+        int largo;
+        try {
+            largo = buscar(grid);
+        } finally {
+            this.oyente = null;
+        }
+        for (int i = 0; i < largo; i++)
+            listener.onPath(this.camino[i]);
+        listener.onFinish(largo > 0);
+        return largo > 0;
+    }
+
+    /**
+     * Ejecuta la búsqueda nivel por nivel dejando las celdas visitadas y el camino en los buffers.
+     *
+     * @return El número de celdas del camino, o 0 si no hay camino.
+     */
+    private int buscar(MazeGrid grid) {
+        if (!grid.mayConnect(grid.getStart(), grid.getEnd())) {
+            this.nVisitadas = 0;
+            return 0;
+        }
+        int n = grid.size();
+        prepararBuffers(n);
+        this.grid = grid;
+        this.fin = grid.getEnd();
+        int inicio = grid.getStart();
+
+        this.cola[0] = inicio;
+        this.padre[inicio] = -1;
+        reclamar(inicio);
+        this.siguienteLibre.set(1);
+        this.encontrado = inicio == this.fin;
+
+        int inicioNivel = 0;
+        int finNivel = 1;
+        while (!this.encontrado && inicioNivel < finNivel) {
+            // Se comprueba una vez por nivel: los hilos del pool no consultan el testigo.
+            this.cancelacion.throwIfCancelled();
+            if (finNivel - inicioNivel < this.umbralFrontera)
+                expandir(inicioNivel, finNivel);
+            else
+                ForkJoinPool.commonPool().invoke(new ExpandirNivel(inicioNivel, finNivel));
+            emitirVisitas(inicioNivel, finNivel);
+            inicioNivel = finNivel;
+            finNivel = this.siguienteLibre.get();
+        }
+
+        int largo = 0;
+        if (this.encontrado) {
+            // Visitadas: los niveles expandidos más el destino.
+            if (inicio == this.fin) {
+                this.nVisitadas = 1;
+            } else {
+                this.nVisitadas = inicioNivel;
+                this.cola[this.nVisitadas++] = this.fin;
+            }
+            emitirVisitas(this.nVisitadas - 1, this.nVisitadas);
+            for (int c = this.fin; c != -1; c = this.padre[c])
+                largo++;
+            int pos = largo;
+            for (int c = this.fin; c != -1; c = this.padre[c])
+                this.camino[--pos] = c;
+        } else {
+            this.nVisitadas = finNivel;
+        }
+        this.grid = null;
+        return largo;
+    }
+
+    /**
+     * Emite como visitadas las celdas de un tramo de la cola, si hay un receptor.
+     */
+    private void emitirVisitas(int desde, int hasta) {
+        if (this.oyente == null)
+            return;
+        for (int i = desde; i < hasta; i++)
+            this.oyente.onVisit(this.cola[i]);
+    }
+
+    /**
+     * Expande secuencialmente un tramo de la frontera actual, de a {@link #GRANO} celdas, con un buffer de
+     * la reserva.
+     *
+     * @param desde Posición inicial (inclusiva) en la cola.
+     * @param hasta Posición final (exclusiva) en la cola.
+     */
+    private void expandir(int desde, int hasta) {
+        int[] local = this.buffers.poll();
+        if (local == null)
+            local = new int[4 * GRANO];
+        try {
+            for (int i = desde; i < hasta; i += GRANO)
+                expandirGrano(i, Math.min(hasta, i + GRANO), local);
+        } finally {
+            this.buffers.offer(local);
+        }
+    }
+
+    /**
+     * Expande un tramo de como mucho {@link #GRANO} celdas y publica sus descubrimientos en el siguiente
+     * nivel.
+     *
+     * @param desde Posición inicial (inclusiva) en la cola.
+     * @param hasta Posición final (exclusiva) en la cola.
+     * @param local Buffer de al menos `4 * (hasta - desde)` celdas.
+     */
+    private void expandirGrano(int desde, int hasta, int[] local) {
+        MazeGrid g = this.grid;
+        int filas = g.getRows();
+        int columnas = g.getCols();
+        int cuenta = 0;
+        for (int i = desde; i < hasta; i++) {
+            int actual = this.cola[i];
+            int fila = actual / columnas;
+            int columna = actual - fila * columnas;
+            if (fila + 1 < filas)
+                cuenta = descubrir(g, actual + columnas, actual, local, cuenta);
+            if (fila > 0)
+                cuenta = descubrir(g, actual - columnas, actual, local, cuenta);
+            if (columna + 1 < columnas)
+                cuenta = descubrir(g, actual + 1, actual, local, cuenta);
+            if (columna > 0)
+                cuenta = descubrir(g, actual - 1, actual, local, cuenta);
+        }
+        int base = this.siguienteLibre.getAndAdd(cuenta);
+        System.arraycopy(local, 0, this.cola, base, cuenta);
+    }
+
+    /**
+     * Reclama un vecino si es transitable y nadie lo reclamó antes; el ganador registra el padre.
+     *
+     * @return La nueva cantidad de celdas en el buffer local.
+     */
+    private int descubrir(MazeGrid g, int vecino, int actual, int[] local, int cuenta) {
+        if (g.isWall(vecino) || !reclamar(vecino))
+            return cuenta;
+        this.padre[vecino] = actual;
+        local[cuenta++] = vecino;
+        if (vecino == this.fin)
+            this.encontrado = true;
+        return cuenta;
+    }
+
+    /**
+     * Intenta marcar una celda en el mapa de bits compartido.
+     *
+     * @param indice Índice de la celda.
+     * @return `true` si este hilo la reclamó; `false` si ya estaba marcada.
+     */
+    private boolean reclamar(int indice) {
+        int palabra = indice >>> 6;
+        long bit = 1L << indice;
+        while (true) {
+            long actual = this.reclamadas.get(palabra);
+            if ((actual & bit) != 0)
+                return false;
+            if (this.reclamadas.compareAndSet(palabra, actual, actual | bit))
+                return true;
+        }
+    }
+
+    /**
+     * Asegura capacidad para `n` celdas y limpia el mapa de bits.
+     *
+     * @param n Número de celdas del laberinto.
+     */
+    private void prepararBuffers(int n) {
+        int palabras = (n + 63) >>> 6;
+        if (this.cola.length < n) {
+            this.cola = new int[n];
+            this.padre = new int[n];
+            this.camino = new int[n];
+            this.reclamadas = new AtomicLongArray(palabras);
+        } else {
+            for (int i = 0; i < palabras; i++)
+                this.reclamadas.set(i, 0L);
+        }
+    }
+
+    /**
+     * Tarea que divide un tramo de la frontera hasta el tamaño de grano y expande cada parte.
+     */
+    private class ExpandirNivel extends RecursiveAction {
+        private final int desde;
+        private final int hasta;
+
+        ExpandirNivel(int desde, int hasta) {
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.hasta - this.desde <= GRANO) {
+                expandir(this.desde, this.hasta);
+                return;
+            }
+            int medio = (this.desde + this.hasta) >>> 1;
+            invokeAll(new ExpandirNivel(this.desde, medio), new ExpandirNivel(medio, this.hasta));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ec.edu.ups.solver.solverImpl;
+
+import ec.edu.ups.solver.CancellationToken;
+import ec.edu.ups.solver.MazeSolver;
+
+/**
+ * Base común de los solucionadores de este paquete: guarda el testigo de cancelación que sus búsquedas
+ * consultan con `cancelacion.checkpoint()` en cada celda que exploran.
+ */
+abstract class MazeSolverCancelable implements MazeSolver {
+    /** Testigo de cancelación que consulta la búsqueda en curso. */
+    CancellationToken cancelacion = CancellationToken.NONE;
+
+    @Override
+    public void setCancellationToken(CancellationToken token) {
+        this.cancelacion = token != null ? token : CancellationToken.NONE;
+    }
+}
@@ -7,14 +7,13 @@ import java.util.Set;
 import ec.edu.ups.models.Cell;
 import ec.edu.ups.models.CellState;
 import ec.edu.ups.models.SolveResults;
-import ec.edu.ups.solver.MazeSolver;
 
 /**
  * `MazeSolverDFS` implementa la interfaz `MazeSolver` utilizando el algoritmo de Búsqueda en Profundidad (DFS).
  * Esta clase encuentra un camino desde una celda inicial hasta una celda final en un laberinto dado.
  * Es importante destacar que DFS no garantiza encontrar el camino más corto, solo un camino si existe.
  */
-public class MazeSolverDFS implements MazeSolver {
+public class MazeSolverDFS extends MazeSolverCancelable {
     // `visitadas` es un conjunto para almacenar las celdas ya visitadas durante la exploración DFS.
     // Se utiliza `LinkedHashSet` para mantener el orden de inserción de las celdas visitadas.
     private Set<Cell> visitadas = new LinkedHashSet<>();
@@ -38,7 +37,7 @@ public class MazeSolverDFS implements MazeSolver {
         this.visitadas.clear(); // Limpiar las celdas visitadas.
         this.camino.clear(); // Limpiar el camino.
         dfs(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2); // Iniciar DFS.
-        return new SolveResults(new ArrayList<>(this.visitadas), new ArrayList<>(this.camino)); // Devolver resultado.
+        return SolveResults.fromCells(paramArrayOfCell, this.visitadas, this.camino); // Devolver resultado.
     }
 
     /**
@@ -53,6 +52,7 @@ public class MazeSolverDFS implements MazeSolver {
      * @return `true` si se encontró un camino a la celda objetivo desde la celda actual, `false` en caso contrario.
      */
     private boolean dfs(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell) {
+        this.cancelacion.checkpoint(); // Permitir cancelar la búsqueda.
         if (!isValid(paramArrayOfCell, paramInt1, paramInt2)) // Si la celda no es válida.
             return false;
         Cell cell = paramArrayOfCell[paramInt1][paramInt2]; // Obtener la celda actual.
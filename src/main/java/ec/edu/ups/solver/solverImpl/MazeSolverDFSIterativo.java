@@ -0,0 +1,17 @@
+package ec.edu.ups.solver.solverImpl;
+
+/**
+ * `MazeSolverDFSIterativo` es la versión iterativa de `MazeSolverDFS`:
+ * explora abajo, arriba, derecha e izquierda, y el camino va del fin al inicio.
+ * Visita las celdas en el mismo orden y devuelve el mismo camino que el original, pero con una pila
+ * explícita, por lo que no desborda la pila del hilo en laberintos de millones de celdas.
+ */
+public class MazeSolverDFSIterativo extends MazeSolverProfundidadIterativo {
+
+    /**
+     * Construye el solucionador con el orden de direcciones de `MazeSolverDFS`.
+     */
+    public MazeSolverDFSIterativo() {
+        super(new int[] { 1, -1, 0, 0 }, new int[] { 0, 0, 1, -1 }, false);
+    }
+}
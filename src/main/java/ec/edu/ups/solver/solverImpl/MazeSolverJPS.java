@@ -0,0 +1,289 @@
+package ec.edu.ups.solver.solverImpl;
+
+import java.util.Arrays;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.SolveListener;
+
+/**
+ * `MazeSolverJPS` implementa la interfaz `MazeSolver` con *Jump Point Search* para el movimiento en
+ * cuatro direcciones. Es un A* (heurística Manhattan) que, en lugar de insertar cada vecino en el
+ * conjunto abierto, avanza en línea recta ("salta") mientras no haya nada interesante y solo se detiene
+ * en los puntos de salto: el destino, celdas con vecinos forzados por un muro, o celdas de un avance
+ * vertical desde las que un salto horizontal encuentra otro punto de salto. Así se evita expandir los
+ * muchos caminos simétricos de igual longitud que tienen las salas abiertas.
+ * <p>
+ * Las reglas de poda y de vecinos forzados son las de JPS sin movimiento diagonal: desde un punto
+ * alcanzado en horizontal se prueban la dirección de avance y las dos verticales; desde uno alcanzado en
+ * vertical, la dirección de avance y las dos horizontales.
+ * </p>
+ * La lista de celdas visitadas contiene los puntos de salto en el orden en que se expanden; el camino
+ * se reconstruye celda por celda rellenando los tramos rectos entre puntos de salto, por lo que es
+ * compatible con `SolveResults` y con la animación.
+ */
+public class MazeSolverJPS extends MazeSolverCancelable {
+    /** Conjunto abierto de puntos de salto. */
+    private final IndexedMinHeap abiertos = new IndexedMinHeap();
+    /** Distancia desde el inicio de cada punto de salto alcanzado. */
+    private int[] distancia = new int[0];
+    /** Punto de salto anterior de cada punto de salto alcanzado. */
+    private int[] padre = new int[0];
+    /** Generación en la que se alcanzó cada celda. */
+    private int[] alcanzada = new int[0];
+    /** Generación en la que se cerró cada celda. */
+    private int[] cerrada = new int[0];
+    /** Puntos de salto expandidos, en orden. */
+    private int[] visitadas = new int[0];
+    /** Buffer para el camino resultante. */
+    private int[] camino = new int[0];
+    /** Generación de la búsqueda actual. */
+    private int generacion;
+    /** Número de celdas visitadas en la última búsqueda. */
+    private int nVisitadas;
+    /** Receptor de eventos de la resolución en curso en modo *streaming*, o `null`. */
+    private SolveListener oyente;
+
+    /** Cuadrícula de la búsqueda en curso. */
+    private MazeGrid grid;
+    /** Índice del destino de la búsqueda en curso. */
+    private int fin;
+
+    @Override
+    public SolveResults getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        return getPath(MazeGrid.fromCells(paramArrayOfCell, paramCell1, paramCell2));
+    }
+
+    /**
+     * Busca el camino más corto saltando entre puntos de salto.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return Un objeto `SolveResults` con los puntos de salto expandidos y el camino completo del inicio
+     * al fin (vacío si no existe).
+     */
+    @Override
+    public SolveResults getPath(MazeGrid grid) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        int largo = buscar(grid);
+        return grid.toResults(this.visitadas, this.nVisitadas, this.camino, largo);
+    }
+
+    /**
+     * Resuelve emitiendo cada punto de salto al expandirlo y luego el camino.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @param listener El receptor de los eventos.
+     * @return `true` si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, SolveListener listener) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        this.oyente = listener;
+        int largo;
+        try {
+            largo = buscar(grid);
+        } finally {
+            this.oyente = null;
+        }
+        for (int i = 0; i < largo; i++)
+            listener.onPath(this.camino[i]);
+        listener.onFinish(largo > 0);
+        return largo > 0;
+    }
+
+    /**
+     * Ejecuta la búsqueda dejando las celdas visitadas y el camino en los buffers.
+     *
+     * @return El número de celdas del camino, o 0 si no hay camino.
+     */
+    private int buscar(MazeGrid grid) {
+        if (!grid.mayConnect(grid.getStart(), grid.getEnd())) {
+            this.nVisitadas = 0;
+            return 0;
+        }
+        int n = grid.size();
+        prepararBuffers(n);
+        this.abiertos.reset(n);
+        this.grid = grid;
+        int gen = this.generacion;
+        int columnas = grid.getCols();
+        int inicio = grid.getStart();
+        this.fin = grid.getEnd();
+        int filaFin = this.fin / columnas;
+        int columnaFin = this.fin % columnas;
+
+        this.distancia[inicio] = 0;
+        this.padre[inicio] = -1;
+        this.alcanzada[inicio] = gen;
+        this.abiertos.insertOrUpdate(inicio, 0L);
+
+        this.nVisitadas = 0;
+        boolean encontrado = false;
+        while (!this.abiertos.isEmpty()) {
+            this.cancelacion.checkpoint();
+            int actual = this.abiertos.poll();
+            this.cerrada[actual] = gen;
+            visitar(actual);
+            if (actual == this.fin) {
+                encontrado = true;
+                break;
+            }
+            int fila = actual / columnas;
+            int columna = actual % columnas;
+            int anterior = this.padre[actual];
+            if (anterior == -1) {
+                explorar(actual, fila, columna, 1, 0, filaFin, columnaFin, gen);
+                explorar(actual, fila, columna, -1, 0, filaFin, columnaFin, gen);
+                explorar(actual, fila, columna, 0, 1, filaFin, columnaFin, gen);
+                explorar(actual, fila, columna, 0, -1, filaFin, columnaFin, gen);
+                continue;
+            }
+            int dF = Integer.signum(fila - anterior / columnas);
+            int dC = Integer.signum(columna - anterior % columnas);
+            if (dC != 0) { // Llegó en horizontal: seguir de frente y probar ambas verticales.
+                explorar(actual, fila, columna, -1, 0, filaFin, columnaFin, gen);
+                explorar(actual, fila, columna, 1, 0, filaFin, columnaFin, gen);
+                explorar(actual, fila, columna, 0, dC, filaFin, columnaFin, gen);
+            } else { // Llegó en vertical: seguir de frente y probar ambas horizontales.
+                explorar(actual, fila, columna, 0, -1, filaFin, columnaFin, gen);
+                explorar(actual, fila, columna, 0, 1, filaFin, columnaFin, gen);
+                explorar(actual, fila, columna, dF, 0, filaFin, columnaFin, gen);
+            }
+        }
+
+        int largo = 0;
+        if (encontrado)
+            largo = reconstruirCamino(columnas);
+        this.grid = null;
+        return largo;
+    }
+
+    /**
+     * Salta desde una celda en una dirección y, si encuentra un punto de salto, lo añade o mejora en el
+     * conjunto abierto.
+     */
+    private void explorar(int actual, int fila, int columna, int dF, int dC, int filaFin, int columnaFin, int gen) {
+        int salto = saltar(fila, columna, dF, dC);
+        if (salto == -1 || this.cerrada[salto] == gen)
+            return;
+        int columnas = this.grid.getCols();
+        int filaSalto = salto / columnas;
+        int columnaSalto = salto % columnas;
+        int g = this.distancia[actual] + Math.abs(filaSalto - fila) + Math.abs(columnaSalto - columna);
+        if (this.alcanzada[salto] == gen && this.distancia[salto] <= g)
+            return;
+        this.alcanzada[salto] = gen;
+        this.distancia[salto] = g;
+        this.padre[salto] = actual;
+        long h = Math.abs(filaSalto - filaFin) + Math.abs(columnaSalto - columnaFin);
+        // f en los bits altos; a igual f, primero el más cercano al destino.
+        this.abiertos.insertOrUpdate(salto, ((g + h) << 32) | h);
+    }
+
+    /**
+     * Avanza en línea recta desde una celda hasta encontrar un punto de salto.
+     *
+     * @return El índice del punto de salto, o -1 si se choca con un muro o el borde.
+     */
+    private int saltar(int fila, int columna, int dF, int dC) {
+        if (dC != 0)
+            return saltarHorizontal(fila, columna, dC);
+        MazeGrid g = this.grid;
+        int columnas = g.getCols();
+        while (true) {
+            fila += dF;
+            if (!g.isOpen(fila, columna))
+                return -1;
+            int indice = fila * columnas + columna;
+            if (indice == this.fin)
+                return indice;
+            // Vecino forzado: un lado abierto cuya celda anterior en ese lado es muro.
+            if ((g.isOpen(fila, columna - 1) && !g.isOpen(fila - dF, columna - 1))
+                    || (g.isOpen(fila, columna + 1) && !g.isOpen(fila - dF, columna + 1)))
+                return indice;
+            // En un avance vertical, la celda es punto de salto si un salto horizontal encuentra otro.
+            if (saltarHorizontal(fila, columna, 1) != -1 || saltarHorizontal(fila, columna, -1) != -1)
+                return indice;
+        }
+    }
+
+    /**
+     * Avanza en horizontal desde una celda hasta encontrar un punto de salto.
+     *
+     * @return El índice del punto de salto, o -1 si se choca con un muro o el borde.
+     */
+    private int saltarHorizontal(int fila, int columna, int dC) {
+        MazeGrid g = this.grid;
+        int columnas = g.getCols();
+        while (true) {
+            columna += dC;
+            this.cancelacion.checkpoint();
+            if (!g.isOpen(fila, columna))
+                return -1;
+            int indice = fila * columnas + columna;
+            if (indice == this.fin)
+                return indice;
+            if ((g.isOpen(fila - 1, columna) && !g.isOpen(fila - 1, columna - dC))
+                    || (g.isOpen(fila + 1, columna) && !g.isOpen(fila + 1, columna - dC)))
+                return indice;
+        }
+    }
+
+    /**
+     * Rellena el camino celda por celda siguiendo los tramos rectos entre puntos de salto.
+     *
+     * @return El número de celdas del camino.
+     */
+    private int reconstruirCamino(int columnas) {
+        // Primero se cuenta el largo total: la suma de los tramos más la celda de inicio.
+        int largo = 1;
+        for (int c = this.fin; this.padre[c] != -1; c = this.padre[c]) {
+            int p = this.padre[c];
+            largo += Math.abs(c / columnas - p / columnas) + Math.abs(c % columnas - p % columnas);
+        }
+        int pos = largo;
+        for (int c = this.fin; c != -1; c = this.padre[c]) {
+            int p = this.padre[c];
+            this.camino[--pos] = c;
+            if (p == -1)
+                break;
+            int paso = p / columnas == c / columnas ? Integer.signum(p - c) : Integer.signum(p - c) * columnas;
+            for (int x = c + paso; x != p; x += paso)
+                this.camino[--pos] = x;
+        }
+        return largo;
+    }
+
+    /**
+     * Registra una celda visitada y la emite si hay un receptor.
+     */
+    private void visitar(int celda) {
+        this.visitadas[this.nVisitadas++] = celda;
+        if (this.oyente != null)
+            this.oyente.onVisit(celda);
+    }
+
+    /**
+     * Asegura que los buffers tengan capacidad para `n` celdas y avanza la generación.
+     *
+     * @param n Número de celdas del laberinto.
+     */
+    private void prepararBuffers(int n) {
+        if (this.distancia.length < n) {
+            this.distancia = new int[n];
+            this.padre = new int[n];
+            this.alcanzada = new int[n];
+            this.cerrada = new int[n];
+            this.visitadas = new int[n];
+            this.camino = new int[n];
+            this.generacion = 0;
+        }
+        if (++this.generacion == Integer.MAX_VALUE) {
+            Arrays.fill(this.alcanzada, 0);
+            Arrays.fill(this.cerrada, 0);
+            this.generacion = 1;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package ec.edu.ups.solver.solverImpl;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeChangeListener;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.SolveListener;
+
+/**
+ * `MazeSolverLPAEstrella` implementa la interfaz `MazeSolver` con *Lifelong Planning A**, una versión
+ * incremental de A* que conserva su estado de búsqueda entre llamadas.
+ * <p>
+ * Para cada celda guarda `g` (la distancia conocida desde el inicio) y `rhs` (la distancia que se
+ * obtendría por el mejor vecino). Las celdas donde ambos valores difieren son *inconsistentes* y son las
+ * únicas que se vuelven a expandir. Cuando cambia un muro solo se recalcula `rhs` de esa celda y de sus
+ * cuatro vecinos; la siguiente llamada a {@link #getPath(MazeGrid)} repara únicamente la parte del árbol
+ * de caminos más cortos afectada por el cambio, en lugar de empezar de cero.
+ * </p>
+ * <p>
+ * Para que esto funcione el solucionador debe registrarse como `MazeChangeListener` en el controlador
+ * que edita la cuadrícula. Guarda su propia copia de la cuadrícula, a la que aplica cada aviso, y solo
+ * reutiliza el estado si la huella de Zobrist de la cuadrícula recibida coincide con la de su copia; así
+ * puede resolver una instantánea en otro hilo. Si las huellas difieren (otro laberinto, otro inicio o
+ * fin, o un cambio no avisado), reinicia su estado y la búsqueda equivale a un A* con heurística Manhattan.
+ * Los avisos del controlador llegan en el hilo de Swing y solo se encolan, sin esperar a una búsqueda en
+ * curso; cada búsqueda los aplica al empezar, en su propio hilo. Las búsquedas entre sí están sincronizadas.
+ * </p>
+ * La lista de celdas visitadas contiene solo las celdas expandidas en la llamada actual, por lo que tras
+ * un cambio pequeño muestra exactamente la región reparada.
+ */
+public class MazeSolverLPAEstrella extends MazeSolverCancelable implements MazeChangeListener {
+    /** Distancia infinita (celda no alcanzada). */
+    private static final int INFINITO = Integer.MAX_VALUE;
+
+    /** Celdas inconsistentes, ordenadas por clave. */
+    private final IndexedMinHeap abiertos = new IndexedMinHeap();
+    /** Distancia conocida desde el inicio de cada celda. */
+    private int[] g = new int[0];
+    /** Distancia desde el inicio pasando por el mejor vecino de cada celda. */
+    private int[] rhs = new int[0];
+    /** Celdas expandidas en la llamada actual. */
+    private int[] visitadas = new int[0];
+    /** Número de celdas expandidas en la llamada actual. */
+    private int nVisitadas;
+
+    /** Muros cambiados desde la última búsqueda, como `{fila, columna, 1 si es muro}`, pendientes de aplicar. */
+    private final ConcurrentLinkedQueue<int[]> cambios = new ConcurrentLinkedQueue<>();
+    /** Copia de la cuadrícula sobre la que se mantiene el estado, o `null` si aún no hay estado. */
+    private MazeGrid grid;
+    /** Receptor de eventos de la resolución en curso en modo *streaming*, o `null`. */
+    private SolveListener oyente;
+    /** Índice de la celda de inicio para la que se mantiene el estado. */
+    private int inicio;
+    /** Índice de la celda de fin para la que se mantiene el estado. */
+    private int fin;
+
+    @Override
+    public SolveResults getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        return getPath(MazeGrid.fromCells(paramArrayOfCell, paramCell1, paramCell2));
+    }
+
+    /**
+     * Busca el camino más corto reutilizando el estado de la llamada anterior si el laberinto es el mismo.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return Un objeto `SolveResults` con las celdas expandidas en esta llamada y el camino del inicio
+     * al fin (vacío si no existe).
+     */
+    @Override
+    public synchronized SolveResults getPath(MazeGrid grid) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        int[] camino = buscar(grid);
+        return grid.toResults(this.visitadas, this.nVisitadas, camino, camino.length);
+    }
+
+    /**
+     * Resuelve emitiendo cada celda al expandirla y luego el camino.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @param listener El receptor de los eventos.
+     * @return `true` si se encontró un camino.
+     */
+    @Override
+    public synchronized boolean solve(MazeGrid grid, SolveListener listener) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        this.oyente = listener;
+        int[] camino;
+        try {
+            camino = buscar(grid);
+        } finally {
+            this.oyente = null;
+        }
+        for (int celda : camino)
+            listener.onPath(celda);
+        listener.onFinish(camino.length > 0);
+        return camino.length > 0;
+    }
+
+    /**
+     * Repara (o inicia) la búsqueda y reconstruye el camino.
+     *
+     * @return El camino del inicio al fin, o un arreglo vacío si no existe.
+     */
+    private int[] buscar(MazeGrid grid) {
+        this.nVisitadas = 0;
+        aplicarCambios();
+        if (!grid.mayConnect(grid.getStart(), grid.getEnd()))
+            return new int[0];
+        if (this.grid == null || this.grid.getFingerprint() != grid.getFingerprint())
+            inicializar(grid);
+        calcularCaminoMasCorto();
+        return reconstruirCamino();
+    }
+
+    /**
+     * Encola el cambio de un muro para que lo aplique la próxima búsqueda. No toma el candado del
+     * solucionador, así que el hilo de Swing no espera aunque haya una búsqueda en curso.
+     */
+    @Override
+    public void wallChanged(int row, int col, boolean wall) {
+        this.cambios.add(new int[]{row, col, wall ? 1 : 0});
+    }
+
+    /**
+     * Aplica los cambios de muros encolados desde la última búsqueda. Si el solucionador aún no tiene
+     * estado, se descartan. Aplicar un cambio que la instantánea ya incluía no altera nada, porque cada
+     * aviso fija el estado del muro en lugar de alternarlo.
+     */
+    private void aplicarCambios() {
+        int[] cambio;
+        while ((cambio = this.cambios.poll()) != null) {
+            if (this.grid != null)
+                aplicarCambio(cambio[0], cambio[1], cambio[2] == 1);
+        }
+    }
+
+    /**
+     * Actualiza las celdas afectadas por un muro que se puso o se quitó.
+     */
+    private void aplicarCambio(int row, int col, boolean wall) {
+        int columnas = this.grid.getCols();
+        int celda = row * columnas + col;
+        this.grid.setWall(celda, wall);
+        actualizarCelda(celda);
+        if (this.grid.contains(row + 1, col))
+            actualizarCelda(celda + columnas);
+        if (row > 0)
+            actualizarCelda(celda - columnas);
+        if (this.grid.contains(row, col + 1))
+            actualizarCelda(celda + 1);
+        if (col > 0)
+            actualizarCelda(celda - 1);
+    }
+
+    /**
+     * Descarta el estado para empezar una búsqueda nueva desde el inicio de la cuadrícula.
+     */
+    private void inicializar(MazeGrid grid) {
+        int n = grid.size();
+        if (this.g.length < n) {
+            this.g = new int[n];
+            this.rhs = new int[n];
+        }
+        Arrays.fill(this.g, 0, n, INFINITO);
+        Arrays.fill(this.rhs, 0, n, INFINITO);
+        this.abiertos.reset(n);
+        this.grid = grid.copy();
+        this.inicio = grid.getStart();
+        this.fin = grid.getEnd();
+        this.rhs[this.inicio] = 0;
+        this.abiertos.insertOrUpdate(this.inicio, clave(this.inicio));
+    }
+
+    /**
+     * Expande celdas inconsistentes hasta que la distancia al fin es correcta.
+     */
+    private void calcularCaminoMasCorto() {
+        while (!this.abiertos.isEmpty()
+                && (this.abiertos.peekPriority() < clave(this.fin) || this.rhs[this.fin] != this.g[this.fin])) {
+            this.cancelacion.checkpoint();
+            int u = this.abiertos.poll();
+            registrarVisita(u);
+            if (this.g[u] > this.rhs[u]) {
+                // Sobreconsistente: su distancia mejoró y se fija.
+                this.g[u] = this.rhs[u];
+            } else {
+                // Subconsistente: su distancia empeoró; se invalida y se recalcula.
+                this.g[u] = INFINITO;
+                actualizarCelda(u);
+            }
+            actualizarVecinos(u);
+        }
+    }
+
+    /**
+     * Recalcula `rhs` de una celda y la coloca en el conjunto abierto solo si quedó inconsistente.
+     */
+    private void actualizarCelda(int u) {
+        if (u != this.inicio)
+            this.rhs[u] = this.grid.isWall(u) ? INFINITO : mejorVecino(u);
+        if (this.abiertos.contains(u))
+            this.abiertos.remove(u);
+        if (this.g[u] != this.rhs[u])
+            this.abiertos.insertOrUpdate(u, clave(u));
+    }
+
+    /**
+     * Recalcula las cuatro celdas vecinas de una celda cuya distancia acaba de cambiar.
+     */
+    private void actualizarVecinos(int u) {
+        int filas = this.grid.getRows();
+        int columnas = this.grid.getCols();
+        int fila = u / columnas;
+        int columna = u - fila * columnas;
+        if (fila + 1 < filas)
+            actualizarCelda(u + columnas);
+        if (fila > 0)
+            actualizarCelda(u - columnas);
+        if (columna + 1 < columnas)
+            actualizarCelda(u + 1);
+        if (columna > 0)
+            actualizarCelda(u - 1);
+    }
+
+    /**
+     * @return La menor distancia a la celda pasando por alguno de sus vecinos transitables.
+     */
+    private int mejorVecino(int u) {
+        int mejor = INFINITO;
+        for (int d = 0; d < 4; d++) {
+            int p = vecino(u, d);
+            if (p != -1 && this.g[p] != INFINITO && this.g[p] + 1 < mejor)
+                mejor = this.g[p] + 1;
+        }
+        return mejor;
+    }
+
+    /**
+     * Devuelve el vecino transitable de una celda en una dirección (abajo, arriba, derecha, izquierda).
+     *
+     * @return El índice del vecino, o -1 si no existe o es un muro.
+     */
+    private int vecino(int u, int d) {
+        int columnas = this.grid.getCols();
+        int fila = u / columnas;
+        int columna = u - fila * columnas;
+        int p;
+        if (d == 0) {
+            if (fila + 1 >= this.grid.getRows()) return -1;
+            p = u + columnas;
+        } else if (d == 1) {
+            if (fila == 0) return -1;
+            p = u - columnas;
+        } else if (d == 2) {
+            if (columna + 1 >= columnas) return -1;
+            p = u + 1;
+        } else {
+            if (columna == 0) return -1;
+            p = u - 1;
+        }
+        return this.grid.isWall(p) ? -1 : p;
+    }
+
+    /**
+     * Calcula la clave de una celda: `min(g, rhs) + h` en los 32 bits altos y `min(g, rhs)` en los bajos.
+     */
+    private long clave(int u) {
+        long m = Math.min(this.g[u], this.rhs[u]);
+        if (m == INFINITO)
+            return ((long) INFINITO << 32) | INFINITO;
+        int columnas = this.grid.getCols();
+        long h = Math.abs(u / columnas - this.fin / columnas) + Math.abs(u % columnas - this.fin % columnas);
+        return (Math.min(m + h, INFINITO) << 32) | m;
+    }
+
+    /**
+     * Reconstruye el camino desde el fin hacia atrás, eligiendo en cada paso el vecino con menor distancia
+     * (a igual distancia, en el orden abajo, arriba, derecha, izquierda).
+     *
+     * @return El camino del inicio al fin, o un arreglo vacío si el fin no es alcanzable.
+     */
+    private int[] reconstruirCamino() {
+        if (this.g[this.fin] == INFINITO)
+            return new int[0];
+        int[] camino = new int[this.g[this.fin] + 1];
+        int u = this.fin;
+        for (int pos = camino.length - 1; pos > 0; pos--) {
+            camino[pos] = u;
+            int mejor = -1;
+            for (int d = 0; d < 4; d++) {
+                int p = vecino(u, d);
+                if (p != -1 && (mejor == -1 || this.g[p] < this.g[mejor]))
+                    mejor = p;
+            }
+            u = mejor;
+        }
+        camino[0] = u;
+        return camino;
+    }
+
+    /**
+     * Agrega una celda a la lista de expandidas, ampliando el buffer si hace falta (una celda puede
+     * expandirse dos veces en una misma llamada).
+     */
+    private void registrarVisita(int u) {
+        if (this.nVisitadas == this.visitadas.length)
+            this.visitadas = Arrays.copyOf(this.visitadas, Math.max(16, 2 * this.visitadas.length));
+        this.visitadas[this.nVisitadas++] = u;
+        if (this.oyente != null)
+            this.oyente.onVisit(u);
+    }
+}
@@ -0,0 +1,198 @@
+package ec.edu.ups.solver.solverImpl;
+
+import java.util.Arrays;
+import ec.edu.ups.models.Cell;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.SolveListener;
+
+/**
+ * Base común de las versiones iterativas de los solucionadores recursivos en profundidad
+ * (`MazeSolverRecursivo`, `MazeSolverRecursivoCompleto`, `MazeSolverRecursivoCompletoBT` y `MazeSolverDFS`).
+ * <p>
+ * En lugar de una llamada recursiva por celda, usa una pila explícita de enteros: para cada nivel guarda
+ * el índice de la celda y la siguiente dirección que falta probar. Probar las direcciones en el mismo orden
+ * que las llamadas recursivas reproduce exactamente el mismo orden de visita, y la pila contiene en todo
+ * momento la misma cadena de celdas que la pila de llamadas del original. Así la memoria crece con el
+ * tamaño del laberinto y no con el tamaño de la pila del hilo.
+ * </p>
+ * Las subclases solo indican el orden de las direcciones y cómo construye el camino el algoritmo original.
+ */
+abstract class MazeSolverProfundidadIterativo extends MazeSolverCancelable {
+    /** Desplazamientos de fila de cada dirección, en el orden en que se prueban. */
+    private final int[] dirFilas;
+    /** Desplazamientos de columna de cada dirección, en el orden en que se prueban. */
+    private final int[] dirColumnas;
+    /**
+     * `true` si el camino acumula todas las celdas visitadas sin retroceder (comportamiento de
+     * `MazeSolverRecursivoCompleto`); `false` si el camino es la cadena de la pila al encontrar el fin.
+     */
+    private final boolean acumulaVisitadas;
+
+    /** Pila de índices de celda. */
+    private int[] pila = new int[0];
+    /** Siguiente dirección a probar para cada nivel de la pila. */
+    private int[] siguienteDir = new int[0];
+    /** Generación en la que se visitó cada celda. */
+    private int[] marca = new int[0];
+    /** Celdas visitadas en orden de visita. */
+    private int[] visitadas = new int[0];
+    /** Buffer para el camino resultante. */
+    private int[] camino = new int[0];
+    /** Generación de la búsqueda actual. */
+    private int generacion;
+    /** Número de celdas visitadas en la última búsqueda. */
+    private int nVisitadas;
+    /** Receptor de eventos de la resolución en curso en modo *streaming*, o `null`. */
+    private SolveListener oyente;
+
+    /**
+     * @param dirFilas Desplazamientos de fila de cada dirección.
+     * @param dirColumnas Desplazamientos de columna de cada dirección.
+     * @param acumulaVisitadas Si el camino se construye con todas las celdas visitadas.
+     */
+    MazeSolverProfundidadIterativo(int[] dirFilas, int[] dirColumnas, boolean acumulaVisitadas) {
+        this.dirFilas = dirFilas;
+        this.dirColumnas = dirColumnas;
+        this.acumulaVisitadas = acumulaVisitadas;
+    }
+
+    @Override
+    public SolveResults getPath(Cell[][] paramArrayOfCell, Cell paramCell1, Cell paramCell2) {
+        return getPath(MazeGrid.fromCells(paramArrayOfCell, paramCell1, paramCell2));
+    }
+
+    /**
+     * Recorre el laberinto en profundidad con la pila explícita.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @return Un objeto `SolveResults` con las celdas visitadas y el camino, con la misma forma que
+     * devuelve el solucionador recursivo equivalente.
+     */
+    @Override
+    public SolveResults getPath(MazeGrid grid) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        int largo = buscar(grid);
+        return grid.toResults(this.visitadas, this.nVisitadas, this.camino, largo);
+    }
+
+    /**
+     * Resuelve emitiendo cada celda al visitarla y luego el camino.
+     *
+     * @param grid La cuadrícula con inicio y fin definidos.
+     * @param listener El receptor de los eventos.
+     * @return `true` si se encontró un camino.
+     */
+    @Override
+    public boolean solve(MazeGrid grid, SolveListener listener) {
+        if (!grid.hasEndpoints())
+            throw new IllegalStateException("La cuadrícula no tiene definido el inicio o el fin.");
+        this.oyente = listener;
+        int largo;
+        try {
+            largo = buscar(grid);
+        } finally {
+            this.oyente = null;
+        }
+        for (int i = 0; i < largo; i++)
+            listener.onPath(this.camino[i]);
+        listener.onFinish(largo > 0);
+        return largo > 0;
+    }
+
+    /**
+     * Ejecuta la búsqueda dejando las celdas visitadas y el camino en los buffers.
+     *
+     * @return El número de celdas del camino, o 0 si no hay camino.
+     */
+    private int buscar(MazeGrid grid) {
+        prepararBuffers(grid.size());
+        int gen = this.generacion;
+        int columnas = grid.getCols();
+        int inicio = grid.getStart();
+        int fin = grid.getEnd();
+        int numDirs = this.dirFilas.length;
+
+        this.nVisitadas = 0;
+        int tope = 0;
+        boolean encontrado = false;
+
+        if (!grid.isWall(inicio)) {
+            this.marca[inicio] = gen;
+            visitar(inicio);
+            this.pila[0] = inicio;
+            this.siguienteDir[0] = 0;
+            tope = 1;
+            encontrado = inicio == fin;
+        }
+
+        while (tope > 0 && !encontrado) {
+            this.cancelacion.checkpoint();
+            int nivel = tope - 1;
+            int d = this.siguienteDir[nivel];
+            if (d == numDirs) { // Ninguna dirección lleva al fin: retroceder.
+                tope--;
+                continue;
+            }
+            this.siguienteDir[nivel] = d + 1;
+            int actual = this.pila[nivel];
+            int fila = actual / columnas + this.dirFilas[d];
+            int columna = actual % columnas + this.dirColumnas[d];
+            if (!grid.isOpen(fila, columna))
+                continue;
+            int vecino = fila * columnas + columna;
+            if (this.marca[vecino] == gen)
+                continue;
+            this.marca[vecino] = gen;
+            visitar(vecino);
+            this.pila[tope] = vecino;
+            this.siguienteDir[tope] = 0;
+            tope++;
+            encontrado = vecino == fin;
+        }
+
+        int largo = 0;
+        if (this.acumulaVisitadas) {
+            // El original añade cada celda visitada al camino (y el fin dos veces) y luego lo invierte.
+            if (encontrado)
+                this.camino[largo++] = fin;
+            for (int i = this.nVisitadas - 1; i >= 0; i--)
+                this.camino[largo++] = this.visitadas[i];
+        } else if (encontrado) {
+            // La cadena de la pila, del fin al inicio, tal como la dejan las llamadas recursivas.
+            for (int i = tope - 1; i >= 0; i--)
+                this.camino[largo++] = this.pila[i];
+        }
+        return largo;
+    }
+
+    /**
+     * Registra una celda visitada y la emite si hay un receptor.
+     */
+    private void visitar(int celda) {
+        this.visitadas[this.nVisitadas++] = celda;
+        if (this.oyente != null)
+            this.oyente.onVisit(celda);
+    }
+
+    /**
+     * Asegura que los buffers tengan capacidad para `n` celdas y avanza la generación.
+     *
+     * @param n Número de celdas del laberinto.
+     */
+    private void prepararBuffers(int n) {
+        if (this.pila.length < n) {
+            this.pila = new int[n];
+            this.siguienteDir = new int[n];
+            this.marca = new int[n];
+            this.visitadas = new int[n];
+            this.camino = new int[n + 1];
+            this.generacion = 0;
+        }
+        if (++this.generacion == Integer.MAX_VALUE) {
+            Arrays.fill(this.marca, 0);
+            this.generacion = 1;
+        }
+    }
+}
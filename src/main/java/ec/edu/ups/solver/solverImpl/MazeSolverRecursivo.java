@@ -7,7 +7,6 @@ import java.util.Set;
 import ec.edu.ups.models.CellState;
 import ec.edu.ups.models.Cell;
 import ec.edu.ups.models.SolveResults;
-import ec.edu.ups.solver.MazeSolver;
 
 /**
  * La clase `MazeSolverRecursivo` implementa la interfaz `MazeSolver` y ofrece una solución
@@ -18,7 +17,7 @@ import ec.edu.ups.solver.MazeSolver;
  * @author Moises Piguave
  * @since 28/07/2025
  */
-public class MazeSolverRecursivo implements MazeSolver {
+public class MazeSolverRecursivo extends MazeSolverCancelable {
 
     /**
      * Un `Set` de tipo `LinkedHashSet` que guarda las celdas **visitadas** durante la búsqueda.
@@ -58,7 +57,7 @@ public class MazeSolverRecursivo implements MazeSolver {
 
         // Retorna un nuevo objeto SolveResults con copias de las listas para evitar
         // que las listas internas del solucionador sean modificadas externamente.
-        return new SolveResults(new ArrayList<>(this.visitadas), new ArrayList<>(this.camino));
+        return SolveResults.fromCells(paramArrayOfCell, this.visitadas, this.camino);
     }
 
     /**
@@ -74,6 +73,9 @@ public class MazeSolverRecursivo implements MazeSolver {
      * @return `true` si se encontró un camino desde la celda actual hasta el destino; `false` en caso contrario.
      */
     private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell) {
+        // Permite cancelar la búsqueda desde otro hilo.
+        this.cancelacion.checkpoint();
+
         // Primero, verifica si la celda actual es válida (dentro de los límites del laberinto y no es una pared).
         if (!isValid(paramArrayOfCell, paramInt1, paramInt2)) {
             return false; // Si no es válida, no hay camino por aquí.
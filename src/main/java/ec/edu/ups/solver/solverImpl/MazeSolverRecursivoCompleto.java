@@ -8,7 +8,6 @@ import java.util.Set;
 import ec.edu.ups.models.Cell;
 import ec.edu.ups.models.CellState;
 import ec.edu.ups.models.SolveResults;
-import ec.edu.ups.solver.MazeSolver;
 
 /**
  * `MazeSolverRecursivoCompleto` implementa la interfaz `MazeSolver` utilizando
@@ -17,7 +16,7 @@ import ec.edu.ups.solver.MazeSolver;
  * celda final en un laberinto dado.
  * A diferencia de BFS, no garantiza el camino más corto, pero sí encuentra un camino si existe.
  */
-public class MazeSolverRecursivoCompleto  implements MazeSolver {
+public class MazeSolverRecursivoCompleto extends MazeSolverCancelable {
     // `visited` es un conjunto que almacena las celdas ya exploradas para evitar
     // bucles infinitos y revisar celdas innecesariamente.
     // Se usa `LinkedHashSet` para mantener el orden de visita.
@@ -44,7 +43,7 @@ public class MazeSolverRecursivoCompleto  implements MazeSolver {
         this.camino.clear(); // Limpiar el camino.
         findPath(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2); // Iniciar la búsqueda recursiva.
         Collections.reverse(this.camino); // Invertir el camino para que esté en el orden correcto.
-        return new SolveResults(new ArrayList<>(this.visited), new ArrayList<>(this.camino)); // Devolver el resultado.
+        return SolveResults.fromCells(paramArrayOfCell, this.visited, this.camino); // Devolver el resultado.
     }
 
     /**
@@ -58,6 +57,7 @@ public class MazeSolverRecursivoCompleto  implements MazeSolver {
      * @return `true` si se encuentra un camino a la celda objetivo desde la celda actual, `false` en caso contrario.
      */
     private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell) {
+        this.cancelacion.checkpoint(); // Permitir cancelar la búsqueda.
         if (!isValid(paramArrayOfCell, paramInt1, paramInt2)) // Verificar si la celda es válida.
             return false;
         Cell cell = paramArrayOfCell[paramInt1][paramInt2]; // Obtener la celda actual.
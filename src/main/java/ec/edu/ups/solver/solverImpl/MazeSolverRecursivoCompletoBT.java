@@ -3,7 +3,6 @@ package ec.edu.ups.solver.solverImpl;
 import ec.edu.ups.models.Cell;
 import ec.edu.ups.models.CellState;
 import ec.edu.ups.models.SolveResults;
-import ec.edu.ups.solver.MazeSolver;
 import java.util.*;
 
 /**
@@ -12,7 +11,7 @@ import java.util.*;
  * Este algoritmo busca un camino desde una celda de inicio hasta una celda final
  * en un laberinto, deshaciendo los pasos si un camino no conduce al objetivo.
  */
-public class MazeSolverRecursivoCompletoBT implements MazeSolver {
+public class MazeSolverRecursivoCompletoBT extends MazeSolverCancelable {
     // `visited` es un conjunto que rastrea las celdas ya visitadas para evitar ciclos
     // y revisitas innecesarias. Se utiliza `LinkedHashSet` para mantener el orden de inserción.
     private Set<Cell> visited = new LinkedHashSet<>();
@@ -38,7 +37,7 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
         this.camino.clear(); // Limpiar el camino.
         findPath(paramArrayOfCell, paramCell1.row, paramCell1.col, paramCell2); // Iniciar la búsqueda.
         Collections.reverse(this.camino); // Invertir el camino para que esté en el orden correcto.
-        return new SolveResults(new ArrayList<>(this.visited), new ArrayList<>(this.camino)); // Devolver el resultado.
+        return SolveResults.fromCells(paramArrayOfCell, this.visited, this.camino); // Devolver el resultado.
     }
 
     /**
@@ -52,6 +51,7 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
      * @return `true` si se encontró un camino a la celda objetivo desde la celda actual, `false` en caso contrario.
      */
     private boolean findPath(Cell[][] paramArrayOfCell, int paramInt1, int paramInt2, Cell paramCell) {
+        this.cancelacion.checkpoint(); // Permitir cancelar la búsqueda.
         // 1. **Condición de límite / Invalidación**: Verifica si la celda está fuera de los límites,
         // es una pared o ya ha sido visitada en la ruta actual.
         if (!isValid(paramArrayOfCell, paramInt1, paramInt2))
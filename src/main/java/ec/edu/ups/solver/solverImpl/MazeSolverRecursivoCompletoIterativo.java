@@ -0,0 +1,17 @@
+package ec.edu.ups.solver.solverImpl;
+
+/**
+ * `MazeSolverRecursivoCompletoIterativo` es la versión iterativa de `MazeSolverRecursivoCompleto`:
+ * explora abajo, derecha, arriba e izquierda, y el camino acumula todas las celdas visitadas en orden inverso.
+ * Visita las celdas en el mismo orden y devuelve el mismo camino que el original, pero con una pila
+ * explícita, por lo que no desborda la pila del hilo en laberintos de millones de celdas.
+ */
+public class MazeSolverRecursivoCompletoIterativo extends MazeSolverProfundidadIterativo {
+
+    /**
+     * Construye el solucionador con el orden de direcciones de `MazeSolverRecursivoCompleto`.
+     */
+    public MazeSolverRecursivoCompletoIterativo() {
+        super(new int[] { 1, 0, -1, 0 }, new int[] { 0, 1, 0, -1 }, true);
+    }
+}
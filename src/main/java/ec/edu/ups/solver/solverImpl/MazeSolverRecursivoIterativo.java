@@ -0,0 +1,17 @@
+package ec.edu.ups.solver.solverImpl;
+
+/**
+ * `MazeSolverRecursivoIterativo` es la versión iterativa de `MazeSolverRecursivo`:
+ * explora solo hacia abajo y hacia la derecha, y el camino va del fin al inicio.
+ * Visita las celdas en el mismo orden y devuelve el mismo camino que el original, pero con una pila
+ * explícita, por lo que no desborda la pila del hilo en laberintos de millones de celdas.
+ */
+public class MazeSolverRecursivoIterativo extends MazeSolverProfundidadIterativo {
+
+    /**
+     * Construye el solucionador con el orden de direcciones de `MazeSolverRecursivo`.
+     */
+    public MazeSolverRecursivoIterativo() {
+        super(new int[] { 1, 0 }, new int[] { 0, 1 }, false);
+    }
+}
@@ -0,0 +1,270 @@
+package ec.edu.ups.vista;
+
+import ec.edu.ups.dao.AlgorithmResultDAO;
+import ec.edu.ups.models.AlgorithmResult;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.solver.CancellationToken;
+import ec.edu.ups.solver.MazeSolver;
+import ec.edu.ups.solver.SolveCancelledException;
+import ec.edu.ups.solver.SolveRecorder;
+import ec.edu.ups.solver.SolverRegistry;
+import ec.edu.ups.solver.VisitEventQueue;
+
+import java.awt.BorderLayout;
+import java.awt.GridLayout;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+
+/**
+ * Cuadro de diálogo que corre una carrera entre todos los solucionadores del {@link SolverRegistry}.
+ * <p>
+ * Cada solucionador recibe su propia copia del laberinto y su propio hilo, y todos parten a la vez desde
+ * una barrera de salida. Cada uno tiene un carril con un lienzo pequeño donde su `SolveAnimator` pinta lo
+ * que va visitando, sin retraso, y una etiqueta con su estado y su puesto. El botón "Cancelar" (o cerrar
+ * el diálogo) detiene los que sigan corriendo; el tiempo máximo, si lo hay, se aplica a cada carril.
+ * </p>
+ * Al terminar todos los carriles, los resultados con camino se guardan juntos en el DAO con
+ * `saveAll` y la misma marca de tiempo. Los tiempos se miden igual que al resolver uno solo (con
+ * {@link SolveRecorder#record(MazeSolver, MazeGrid)}, y la animación recibe los eventos al terminar),
+ * pero con los demás solucionadores compitiendo por los núcleos, así que sirven para comparar los de una
+ * misma carrera entre sí. Para acotar la memoria, solo se admiten laberintos de hasta
+ * {@link #MAX_CELDAS} celdas.
+ */
+public class CarreraDialog extends JDialog {
+    /** Lado aproximado, en píxeles, del lienzo de cada carril. */
+    private static final int LADO_CARRIL = 220;
+    /**
+     * Celdas máximas de un laberinto de carrera. Cada carril tiene su copia del laberinto, sus marcas de
+     * pintado y los buffers de su solucionador, así que la memoria crece con el número de algoritmos.
+     */
+    public static final int MAX_CELDAS = 1_000_000;
+    /**
+     * Eventos pendientes por carril. Si la animación se atrasa, el hilo del carril espera al reproducir
+     * los eventos grabados en lugar de duplicarlos todos en la cola.
+     */
+    private static final int CAPACIDAD_COLA = 1 << 16;
+
+    /** El registro donde se guardan los resultados. */
+    private final AlgorithmResultDAO resultDAO;
+    /** Los carriles de la carrera, en el orden del registro de solucionadores. */
+    private final List<Carril> carriles = new ArrayList<>();
+    /** Los hilos de la carrera, uno por carril. */
+    private final ExecutorService hilos;
+    /** La etiqueta con el estado general de la carrera. */
+    private final JLabel estado = new JLabel("Preparando la carrera...");
+    /** El botón que detiene los carriles que siguen corriendo. */
+    private final JButton cancelButton = new JButton("Cancelar");
+    /** Huella del laberinto de la carrera. */
+    private final long huella;
+    /** Carriles que ya terminaron, por cualquier motivo. Solo se usa en el hilo de Swing. */
+    private int terminados;
+    /** Carriles que encontraron camino, para asignar los puestos. Solo se usa en el hilo de Swing. */
+    private int llegadas;
+
+    /**
+     * Un solucionador de la carrera con su copia del laberinto, su lienzo y su estado.
+     */
+    private static final class Carril {
+        /** El nombre del solucionador en el registro. */
+        final String nombre;
+        /** La copia del laberinto que resuelve y que muestra su lienzo. */
+        final MazeGrid grid;
+        /** El lienzo del carril. */
+        final MazePanel panel;
+        /** La animación que pinta las visitas a medida que llegan. */
+        final SolveAnimator animator;
+        /** La cola entre el solucionador y la animación. */
+        final VisitEventQueue eventos = new VisitEventQueue(CAPACIDAD_COLA);
+        /** La etiqueta con el estado del carril. */
+        final JLabel estado = new JLabel("En la salida", SwingConstants.CENTER);
+        /** El testigo con el que se detiene el carril. */
+        CancellationToken token = CancellationToken.NONE;
+        /** Celdas del camino encontrado, o -1 si el carril no llegó. Solo se usa en el hilo de Swing. */
+        int largoCamino = -1;
+        /** Tiempo de la búsqueda en nanosegundos. Solo se usa en el hilo de Swing. */
+        long tiempoNs;
+
+        Carril(String nombre, MazeGrid grid) {
+            this.nombre = nombre;
+            this.grid = grid;
+            this.panel = new MazePanel(grid, MazePanel.RenderMode.CANVAS);
+            this.panel.ajustarLienzo(LADO_CARRIL);
+            this.animator = new SolveAnimator(this.panel, null);
+        }
+    }
+
+    /**
+     * Construye el diálogo y arranca la carrera.
+     *
+     * @param paramJFrame La ventana principal.
+     * @param paramMazeGrid El laberinto a resolver, con inicio y fin; no se modifica.
+     * @param paramAlgorithmResultDAO El DAO donde se guardan los resultados.
+     * @param paramLong El tiempo máximo de cada carril en nanosegundos, o 0 si no hay límite.
+     */
+    public CarreraDialog(JFrame paramJFrame, MazeGrid paramMazeGrid, AlgorithmResultDAO paramAlgorithmResultDAO,
+                         long paramLong) {
+        super(paramJFrame, "Carrera de algoritmos", false);
+        this.resultDAO = paramAlgorithmResultDAO;
+        this.huella = paramMazeGrid.getFingerprint();
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setLayout(new BorderLayout());
+
+        for (String nombre : SolverRegistry.names())
+            this.carriles.add(new Carril(nombre, paramMazeGrid.copy()));
+
+        // Los carriles en una rejilla lo más cuadrada posible.
+        int columnas = (int) Math.ceil(Math.sqrt(this.carriles.size()));
+        JPanel jPanel1 = new JPanel(new GridLayout(0, columnas, 4, 4));
+        for (Carril carril : this.carriles) {
+            JPanel jPanel = new JPanel(new BorderLayout());
+            jPanel.setBorder(BorderFactory.createTitledBorder(carril.nombre));
+            jPanel.add(carril.panel, BorderLayout.CENTER);
+            jPanel.add(carril.estado, BorderLayout.SOUTH);
+            jPanel1.add(jPanel);
+        }
+        add(jPanel1, BorderLayout.CENTER);
+
+        JPanel jPanel2 = new JPanel();
+        jPanel2.add(this.estado);
+        this.cancelButton.addActionListener(paramActionEvent -> cancelar());
+        jPanel2.add(this.cancelButton);
+        add(jPanel2, BorderLayout.SOUTH);
+
+        AtomicInteger numero = new AtomicInteger();
+        this.hilos = Executors.newFixedThreadPool(this.carriles.size(), runnable -> {
+            Thread thread = new Thread(null, runnable, "carrera-" + numero.incrementAndGet(),
+                    MazeFrame.PILA_SOLUCIONADOR);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        setSize(Math.min(1200, columnas * (LADO_CARRIL + 40)), 700);
+        setLocationRelativeTo(paramJFrame);
+        iniciar(paramLong);
+    }
+
+    /**
+     * Lanza cada carril en su hilo, esperando en la barrera de salida, y los suelta todos a la vez.
+     *
+     * @param presupuesto El tiempo máximo de cada carril en nanosegundos, o 0 si no hay límite.
+     */
+    private void iniciar(long presupuesto) {
+        CountDownLatch salida = new CountDownLatch(1);
+        for (Carril carril : this.carriles) {
+            MazeSolver solver = SolverRegistry.create(carril.nombre);
+            carril.token = presupuesto > 0
+                    ? CancellationToken.withBudget(presupuesto)
+                    : CancellationToken.create();
+            carril.estado.setText("Corriendo...");
+            carril.animator.iniciar(carril.eventos);
+            // Pintar cada visita en cuanto llega, sin la velocidad de la animación normal.
+            carril.animator.saltarAlFinal();
+            this.hilos.execute(() -> correr(carril, solver, salida));
+        }
+        this.hilos.shutdown();
+        this.estado.setText("Carrera en curso: " + this.carriles.size() + " algoritmos");
+        salida.countDown();
+    }
+
+    /**
+     * Resuelve un carril en su hilo y publica el resultado en el hilo de Swing. La búsqueda se graba sin
+     * receptor y solo después se reproduce en la cola del carril, así el tiempo no incluye la espera a la
+     * animación.
+     *
+     * @param carril El carril.
+     * @param solver Su solucionador.
+     * @param salida La barrera de salida común.
+     */
+    private void correr(Carril carril, MazeSolver solver, CountDownLatch salida) {
+        try {
+            salida.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            carril.eventos.close();
+            SwingUtilities.invokeLater(() -> terminar(carril, "Cancelado", -1, 0L));
+            return;
+        }
+        solver.setCancellationToken(carril.token);
+        SolveRecorder grabador = new SolveRecorder();
+        long nanos;
+        try {
+            nanos = grabador.record(solver, carril.grid);
+        } catch (SolveCancelledException e) {
+            carril.eventos.close();
+            SwingUtilities.invokeLater(() -> terminar(carril, e.isTimeout() ? "Tiempo agotado" : "Cancelado", -1, 0L));
+            return;
+        } catch (RuntimeException | StackOverflowError | OutOfMemoryError e) {
+            carril.eventos.close();
+            SwingUtilities.invokeLater(() -> terminar(carril, "Error: " + e.getClass().getSimpleName(), -1, 0L));
+            return;
+        }
+        boolean encontrado = grabador.isFound();
+        int largo = encontrado ? grabador.getPathLength() : -1;
+        String texto = String.format("%.1f ms, %s", nanos / 1e6,
+                encontrado ? "camino de " + largo : "sin camino");
+        SwingUtilities.invokeLater(() -> terminar(carril, texto, largo, nanos));
+        // Si el diálogo se cierra, la cola queda cerrada y la reproducción termina sin esperar.
+        grabador.replay(carril.eventos);
+    }
+
+    /**
+     * Registra el final de un carril y, cuando terminaron todos, guarda los resultados.
+     *
+     * @param carril El carril que terminó.
+     * @param texto El estado a mostrar.
+     * @param largo Las celdas del camino, o -1 si no encontró camino o no terminó.
+     * @param tiempoNs El tiempo de la búsqueda en nanosegundos.
+     */
+    private void terminar(Carril carril, String texto, int largo, long tiempoNs) {
+        if (largo >= 0) {
+            carril.largoCamino = largo;
+            carril.tiempoNs = tiempoNs;
+            texto = ++this.llegadas + ".º  " + texto;
+        }
+        carril.estado.setText(texto);
+        if (++this.terminados < this.carriles.size())
+            return;
+
+        this.cancelButton.setEnabled(false);
+        long timestamp = System.currentTimeMillis();
+        List<AlgorithmResult> resultados = new ArrayList<>();
+        for (Carril c : this.carriles) {
+            if (c.largoCamino >= 0)
+                resultados.add(new AlgorithmResult(c.nombre, c.largoCamino, c.tiempoNs, this.huella, timestamp));
+        }
+        this.resultDAO.saveAll(resultados);
+        this.estado.setText("Carrera terminada: " + resultados.size() + " resultados guardados");
+    }
+
+    /**
+     * Detiene los carriles que siguen corriendo; cada uno lo atiende en su próxima comprobación.
+     */
+    private void cancelar() {
+        for (Carril carril : this.carriles)
+            carril.token.cancel();
+    }
+
+    /**
+     * Al cerrar el diálogo se detienen los carriles y sus animaciones. Los que ya habían llegado se
+     * guardan igual cuando terminan los demás.
+     */
+    @Override
+    public void dispose() {
+        cancelar();
+        for (Carril carril : this.carriles)
+            carril.animator.cancelar();
+        super.dispose();
+    }
+}
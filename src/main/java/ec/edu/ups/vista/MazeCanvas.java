@@ -0,0 +1,202 @@
+package ec.edu.ups.vista;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+
+/**
+ * Componente que pinta todo el laberinto de un {@link MazePanel} en modo de lienzo.
+ * <p>
+ * Cada celda es un cuadrado de `tamanio` píxeles. Al pintar solo se recorren las celdas que caen dentro
+ * del área de recorte (la parte visible o la que se marcó como sucia), y las celdas contiguas del mismo
+ * color en una fila se rellenan con un único rectángulo. Los clics se traducen a una celda dividiendo
+ * las coordenadas entre el tamaño de celda. Con Ctrl + rueda del ratón se cambia el tamaño de celda.
+ * </p>
+ */
+class MazeCanvas extends JComponent implements Scrollable {
+    /** Tamaño de celda mínimo, en píxeles. */
+    private static final int TAMANIO_MINIMO = 1;
+    /** Tamaño de celda máximo, en píxeles. */
+    private static final int TAMANIO_MAXIMO = 40;
+    /** A partir de este tamaño se dibuja una línea de separación entre celdas. */
+    private static final int TAMANIO_CON_BORDE = 6;
+    /** Lado aproximado, en píxeles, que se busca ocupar con el tamaño inicial. */
+    private static final int LADO_INICIAL = 700;
+
+    /** El panel que provee el modelo y los colores. */
+    private final MazePanel panel;
+    /** Número de filas del laberinto. */
+    private final int filas;
+    /** Número de columnas del laberinto. */
+    private final int columnas;
+    /** Lado de cada celda, en píxeles. */
+    private int tamanio;
+
+    /**
+     * Construye el lienzo de un panel, con un tamaño de celda que ajusta el laberinto a unos
+     * {@value #LADO_INICIAL} píxeles sin bajar de 2 píxeles por celda.
+     *
+     * @param panel El panel al que pertenece.
+     */
+    MazeCanvas(MazePanel panel) {
+        this.panel = panel;
+        this.filas = panel.getGrid().getRows();
+        this.columnas = panel.getGrid().getCols();
+        int lado = Math.max(this.filas, this.columnas);
+        this.tamanio = Math.max(2, Math.min(20, LADO_INICIAL / lado));
+        setOpaque(true);
+
+        MouseAdapter raton = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (!SwingUtilities.isLeftMouseButton(e))
+                    return;
+                int fila = e.getY() / MazeCanvas.this.tamanio;
+                int columna = e.getX() / MazeCanvas.this.tamanio;
+                if (fila < MazeCanvas.this.filas && columna < MazeCanvas.this.columnas)
+                    MazeCanvas.this.panel.celdaClickeada(fila, columna);
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (e.isControlDown())
+                    cambiarTamanio(MazeCanvas.this.tamanio - e.getWheelRotation(), e.getPoint());
+                else
+                    getParent().dispatchEvent(SwingUtilities.convertMouseEvent(MazeCanvas.this, e, getParent()));
+            }
+        };
+        addMouseListener(raton);
+        addMouseWheelListener(raton);
+    }
+
+    /**
+     * Marca como sucio solo el rectángulo de una celda; Swing junta los rectángulos pendientes y los
+     * pinta en el siguiente ciclo.
+     *
+     * @param fila La fila de la celda.
+     * @param columna La columna de la celda.
+     */
+    void repintarCelda(int fila, int columna) {
+        repaint(columna * this.tamanio, fila * this.tamanio, this.tamanio, this.tamanio);
+    }
+
+    /**
+     * Marca como sucio el rectángulo que abarca un bloque de celdas.
+     *
+     * @param fila0 Primera fila.
+     * @param columna0 Primera columna.
+     * @param fila1 Última fila (inclusiva).
+     * @param columna1 Última columna (inclusiva).
+     */
+    void repintarRegion(int fila0, int columna0, int fila1, int columna1) {
+        int t = this.tamanio;
+        repaint(columna0 * t, fila0 * t, (columna1 - columna0 + 1) * t, (fila1 - fila0 + 1) * t);
+    }
+
+    /**
+     * Elige el tamaño de celda que ajusta el laberinto a unos `lado` píxeles, dentro de los límites
+     * permitidos.
+     *
+     * @param lado El lado aproximado, en píxeles, que debe ocupar el laberinto.
+     */
+    void ajustarA(int lado) {
+        int mayor = Math.max(this.filas, this.columnas);
+        this.tamanio = Math.max(TAMANIO_MINIMO, Math.min(TAMANIO_MAXIMO, lado / mayor));
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Cambia el tamaño de celda manteniendo bajo el cursor la misma celda.
+     *
+     * @param nuevo El nuevo tamaño, que se ajusta a los límites permitidos.
+     * @param ancla El punto del lienzo que debe quedar fijo.
+     */
+    private void cambiarTamanio(int nuevo, Point ancla) {
+        nuevo = Math.max(TAMANIO_MINIMO, Math.min(TAMANIO_MAXIMO, nuevo));
+        if (nuevo == this.tamanio)
+            return;
+        Rectangle visible = getVisibleRect();
+        int dx = ancla.x - visible.x;
+        int dy = ancla.y - visible.y;
+        int x = ancla.x * nuevo / this.tamanio - dx;
+        int y = ancla.y * nuevo / this.tamanio - dy;
+        this.tamanio = nuevo;
+        revalidate();
+        if (getParent() instanceof JViewport) {
+            JViewport viewport = (JViewport) getParent();
+            viewport.validate();
+            viewport.setViewPosition(new Point(Math.max(0, x), Math.max(0, y)));
+        }
+        repaint();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(this.columnas * this.tamanio, this.filas * this.tamanio);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle recorte = g.getClipBounds();
+        if (recorte == null)
+            recorte = new Rectangle(0, 0, getWidth(), getHeight());
+        int t = this.tamanio;
+        int borde = t >= TAMANIO_CON_BORDE ? 1 : 0;
+        g.setColor(borde == 1 ? Color.GRAY : getBackground());
+        g.fillRect(recorte.x, recorte.y, recorte.width, recorte.height);
+
+        int fila0 = recorte.y / t;
+        int fila1 = Math.min(this.filas - 1, (recorte.y + recorte.height - 1) / t);
+        int columna0 = recorte.x / t;
+        int columna1 = Math.min(this.columnas - 1, (recorte.x + recorte.width - 1) / t);
+        for (int r = fila0; r <= fila1; r++) {
+            int base = r * this.columnas;
+            int y = r * t;
+            int c = columna0;
+            while (c <= columna1) {
+                // Se agrupan las celdas contiguas del mismo color en un solo rectángulo.
+                Color color = this.panel.colorDe(base + c);
+                int desde = c;
+                while (c + 1 <= columna1 && this.panel.colorDe(base + c + 1) == color)
+                    c++;
+                g.setColor(color);
+                if (borde == 0) {
+                    g.fillRect(desde * t, y, (c - desde + 1) * t, t);
+                } else {
+                    for (int k = desde; k <= c; k++)
+                        g.fillRect(k * t, y, t - 1, t - 1);
+                }
+                c++;
+            }
+        }
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension preferido = getPreferredSize();
+        return new Dimension(Math.min(preferido.width, LADO_INICIAL), Math.min(preferido.height, LADO_INICIAL));
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return Math.max(this.tamanio, 16);
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
@@ -1,23 +1,44 @@
 package ec.edu.ups.vista;
 import ec.edu.ups.controlador.MazeController;
 import ec.edu.ups.dao.AlgorithmResultDAO;
-import ec.edu.ups.dao.DaoImpl.AlgorithmResultDAOFile;
+import ec.edu.ups.dao.MazeDAO;
+import ec.edu.ups.dao.DaoImpl.AlgorithmResultDAOAsync;
+import ec.edu.ups.dao.DaoImpl.AlgorithmResultDAOLog;
+import ec.edu.ups.dao.DaoImpl.MazeDAOBinary;
+import ec.edu.ups.generator.GeneratorRegistry;
+import ec.edu.ups.generator.MazeGenerator;
+import ec.edu.ups.generator.generatorImpl.MazeGeneratorAleatorio;
 
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 
 import ec.edu.ups.models.AlgorithmResult;
 import ec.edu.ups.models.Cell;
-import ec.edu.ups.models.CellState;
+import ec.edu.ups.models.ConnectivityIndex;
+import ec.edu.ups.models.MazeGrid;
 import ec.edu.ups.models.SolveResults;
+import ec.edu.ups.solver.CancellationToken;
 import ec.edu.ups.solver.MazeSolver;
-import ec.edu.ups.solver.solverImpl.*;
+import ec.edu.ups.solver.SolveCache;
+import ec.edu.ups.solver.SolveCancelledException;
+import ec.edu.ups.solver.SolveListener;
+import ec.edu.ups.solver.SolveRecorder;
+import ec.edu.ups.solver.SolverRegistry;
+import ec.edu.ups.solver.VisitEventQueue;
+import ec.edu.ups.solver.solverImpl.MazeSolverLPAEstrella;
+import ec.edu.ups.solver.solverImpl.MazeSolverRecursivo;
 
 /**
  * La ventana principal de la aplicación del laberinto.
@@ -35,37 +56,107 @@ public class MazeFrame extends JFrame {
     private final JComboBox<String> algorithmSelector;
     /** El botón para iniciar la resolución del laberinto. */
     private final JButton solveButton;
+    /** El tiempo máximo de cada búsqueda, en segundos; 0 es sin límite. */
+    private final JSpinner tiempoMaximo;
+    /** Indica si hay una búsqueda en curso y cómo terminó la última. */
+    private final JProgressBar progreso;
+    /** El testigo de la búsqueda en curso, o `CancellationToken.NONE` si no hay ninguna. */
+    private CancellationToken busqueda = CancellationToken.NONE;
+    /**
+     * El registro de resultados de la aplicación. Es uno solo para todas las ventanas, porque "Nuevo
+     * laberinto" reemplaza la ventana y el registro mantiene su índice y su lote pendiente en memoria.
+     * Las escrituras se hacen en un hilo aparte, así que guardar un resultado no detiene la interfaz.
+     */
+    private static final AlgorithmResultDAO RESULTADOS =
+            new AlgorithmResultDAOAsync(new AlgorithmResultDAOLog("results.csv"));
+    /** Tamaño de pila de los hilos de búsqueda: los solucionadores recursivos bajan una llamada por celda. */
+    static final long PILA_SOLUCIONADOR = SolverRegistry.STACK_SIZE;
+    /**
+     * El hilo donde corren las búsquedas, compartido por todas las ventanas. Es un hilo de plataforma y
+     * no uno virtual porque solo así se le puede dar una pila grande. Con un solo hilo, una búsqueda nueva
+     * espera a que la anterior termine o atienda su cancelación.
+     */
+    private static final ExecutorService SOLUCIONADOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(null, runnable, "solver", PILA_SOLUCIONADOR);
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /** El DAO para guardar y leer los resultados de los algoritmos. */
     private final AlgorithmResultDAO resultDAO;
-    /** Un mapa para asociar cada estado de celda con un color para la visualización. */
-    private static final Map<CellState, Color> COLOR_MAP = new HashMap<>();
-
-    static {
-        COLOR_MAP.put(CellState.EMPTY, Color.LIGHT_GRAY);
-        COLOR_MAP.put(CellState.WALL, Color.BLACK);
-        COLOR_MAP.put(CellState.START, Color.GREEN);
-        COLOR_MAP.put(CellState.END, Color.RED);
-        COLOR_MAP.put(CellState.PATH, Color.BLUE);
-    }
+    /** El DAO para guardar y abrir laberintos. */
+    private final MazeDAO mazeDAO = new MazeDAOBinary();
+    /** El solucionador incremental; se conserva entre resoluciones para reutilizar su estado. */
+    private final MazeSolverLPAEstrella lpaEstrella = new MazeSolverLPAEstrella();
+    /** Caché de resultados para no repetir una resolución idéntica. */
+    private final SolveCache solveCache = new SolveCache();
+    /** El motor que anima las resoluciones sobre el panel. */
+    private final SolveAnimator animator;
+    /** El botón que pausa y reanuda la animación; su texto indica qué hará. */
+    private final JButton pausaButton;
+
+    /** Opción del selector de generadores que crea un laberinto vacío para dibujar a mano. */
+    private static final String SIN_GENERADOR = "Vacío (dibujar a mano)";
 
     /**
-     * Construye la ventana principal de la aplicación.
+     * Construye la ventana principal de la aplicación con un laberinto vacío.
      *
      * @param paramInt1 El número de filas para el laberinto.
      * @param paramInt2 El número de columnas para el laberinto.
      */
     public MazeFrame(int paramInt1, int paramInt2) {
-        this.resultDAO = new AlgorithmResultDAOFile("results.csv");
+        this(new MazeGrid(paramInt1, paramInt2));
+    }
+
+    /**
+     * Construye la ventana principal de la aplicación mostrando un laberinto ya existente, por ejemplo
+     * uno generado. Si el laberinto trae inicio y fin, se puede resolver de inmediato.
+     *
+     * @param paramMazeGrid El laberinto a mostrar.
+     */
+    public MazeFrame(MazeGrid paramMazeGrid) {
+        this(paramMazeGrid, null);
+    }
+
+    /**
+     * Construye la ventana principal con un laberinto y su índice de componentes conexas ya calculado, para
+     * no recorrer un laberinto grande en el hilo de Swing. Si el panel no usa la misma cuadrícula (en el
+     * modo de botones crea la suya) o no hay índice, se calcula aquí.
+     *
+     * @param paramMazeGrid El laberinto a mostrar.
+     * @param paramConnectivityIndex El índice calculado sobre `paramMazeGrid`, o `null`.
+     */
+    private MazeFrame(MazeGrid paramMazeGrid, ConnectivityIndex paramConnectivityIndex) {
+        this.resultDAO = RESULTADOS;
         setTitle("Maze Solver");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        // El registro escribe por lotes: al cerrar se escribe lo pendiente antes de que termine el proceso.
+        addWindowListener(new WindowAdapter() {
+            public void windowClosing(WindowEvent paramWindowEvent) {
+                MazeFrame.this.resultDAO.flush();
+            }
+        });
         setSize(800, 600);
         setLayout(new BorderLayout());
 
         // Inicializa el panel y el controlador
-        this.mazePanel = new MazePanel(paramInt1, paramInt2);
+        this.mazePanel = new MazePanel(paramMazeGrid);
         this.controller = new MazeController(this.mazePanel);
         this.mazePanel.setController(this.controller);
+        // Índice de componentes conexas para descartar al instante los laberintos sin camino
+        boolean reutilizable = paramConnectivityIndex != null && this.mazePanel.getGrid() == paramMazeGrid;
+        ConnectivityIndex connectivityIndex = reutilizable
+                ? paramConnectivityIndex
+                : new ConnectivityIndex(this.mazePanel.getGrid());
+        this.mazePanel.getGrid().setConnectivityIndex(connectivityIndex);
+        this.controller.addChangeListener(connectivityIndex);
+        this.controller.addChangeListener(this.lpaEstrella);
+        this.controller.addChangeListener(this.solveCache);
         add(this.mazePanel, BorderLayout.CENTER);
+        this.animator = new SolveAnimator(this.mazePanel, hayCamino -> {
+            if (!hayCamino)
+                JOptionPane.showMessageDialog(this, "No se encontró un camino.");
+        });
 
         // Panel de control superior (Set Start, Set End, etc.)
         JPanel jPanel1 = new JPanel();
@@ -81,33 +172,101 @@ public class MazeFrame extends JFrame {
         add(jPanel1, BorderLayout.NORTH);
 
         // Panel de control inferior (Selector de algoritmo, Resolver, etc.)
-        String[] arrayOfString = {"Recursivo", "Recursivo Completo", "Recursivo Completo BT", "BFS", "DFS"};
+        String[] arrayOfString = SolverRegistry.names().toArray(new String[0]);
         this.algorithmSelector = new JComboBox<>(arrayOfString);
         this.solveButton = new JButton("Resolver");
         JPanel jPanel2 = new JPanel();
         jPanel2.add(new JLabel("Algoritmo:"));
         jPanel2.add(this.algorithmSelector);
         jPanel2.add(this.solveButton);
-        add(jPanel2, BorderLayout.SOUTH);
+        this.tiempoMaximo = new JSpinner(new SpinnerNumberModel(0, 0, 3600, 1));
+        this.tiempoMaximo.setToolTipText("0 = sin límite");
+        jPanel2.add(new JLabel("Tiempo máximo (s):"));
+        jPanel2.add(this.tiempoMaximo);
+        this.progreso = new JProgressBar();
+        this.progreso.setStringPainted(true);
+        this.progreso.setString("");
+        jPanel2.add(this.progreso);
 
         // Listener para el botón de resolver
-        this.solveButton.addActionListener(paramActionEvent -> {
-            SolveResults solveResults = resolverYObtenerResultados();
-            if (solveResults != null)
-                animarVisitadas(solveResults.visitadas, solveResults.camino);
-        });
+        this.solveButton.addActionListener(paramActionEvent -> resolver());
+        JButton jButton8 = new JButton("Carrera");
+        jButton8.setToolTipText("Resolver con todos los algoritmos a la vez");
+        jButton8.addActionListener(paramActionEvent -> iniciarCarrera());
+        jPanel2.add(jButton8);
 
         // Botón y menú
         JButton jButton4 = new JButton("Limpiar");
-        jButton4.addActionListener(e -> this.mazePanel.limpiarCeldasVisitadas());
+        jButton4.addActionListener(e -> {
+            this.animator.cancelar();
+            this.mazePanel.limpiarCeldasVisitadas();
+        });
         jPanel2.add(jButton4);
 
+        // Controles de la animación
+        this.pausaButton = new JButton("Pausa");
+        this.pausaButton.addActionListener(e -> {
+            if (this.animator.isPausada()) {
+                this.animator.reanudar();
+                this.pausaButton.setText("Pausa");
+            } else if (this.animator.isAnimando()) {
+                this.animator.pausar();
+                this.pausaButton.setText("Reanudar");
+            }
+        });
+        JButton jButton6 = new JButton("Saltar al final");
+        jButton6.addActionListener(e -> {
+            this.animator.saltarAlFinal();
+            this.pausaButton.setText("Pausa");
+        });
+        JButton jButton7 = new JButton("Cancelar");
+        jButton7.addActionListener(e -> {
+            cancelarBusqueda();
+            this.animator.cancelar();
+            this.pausaButton.setText("Pausa");
+        });
+        JSpinner jSpinner1 = new JSpinner(new SpinnerNumberModel(
+                SolveAnimator.CELDAS_POR_SEGUNDO_POR_DEFECTO, 1, 1_000_000, 10));
+        // Por defecto la animación dura lo mismo sin importar el tamaño de la búsqueda.
+        JCheckBox jCheckBox1 = new JCheckBox("Terminar en (s):", true);
+        JSpinner jSpinner2 = new JSpinner(new SpinnerNumberModel(
+                SolveAnimator.DURACION_POR_DEFECTO_MS / 1000, 1, 600, 1));
+        Runnable ajustarVelocidad = () -> {
+            if (jCheckBox1.isSelected())
+                this.animator.setDuracionObjetivo(1000L * (Integer) jSpinner2.getValue());
+            else
+                this.animator.setCeldasPorSegundo((Integer) jSpinner1.getValue());
+        };
+        jSpinner1.addChangeListener(e -> ajustarVelocidad.run());
+        jSpinner2.addChangeListener(e -> ajustarVelocidad.run());
+        jCheckBox1.addActionListener(e -> ajustarVelocidad.run());
+        JPanel jPanel3 = new JPanel();
+        jPanel3.add(this.pausaButton);
+        jPanel3.add(jButton6);
+        jPanel3.add(jButton7);
+        jPanel3.add(new JLabel("Celdas/s:"));
+        jPanel3.add(jSpinner1);
+        jPanel3.add(jCheckBox1);
+        jPanel3.add(jSpinner2);
+        JPanel jPanel4 = new JPanel(new GridLayout(2, 1));
+        jPanel4.add(jPanel2);
+        jPanel4.add(jPanel3);
+        add(jPanel4, BorderLayout.SOUTH);
+
         JMenuBar jMenuBar = new JMenuBar();
         JMenu jMenu1 = new JMenu("Archivo");
         JMenuItem jMenuItem1 = new JMenuItem("Nuevo laberinto");
         jMenuItem1.addActionListener(paramActionEvent -> reiniciarLaberinto());
         jMenu1.add(jMenuItem1);
 
+        JMenuItem jMenuItem4 = new JMenuItem("Abrir laberinto...");
+        jMenuItem4.addActionListener(paramActionEvent -> abrirLaberinto());
+        jMenu1.add(jMenuItem4);
+        JMenuItem jMenuItem5 = new JMenuItem("Guardar laberinto...");
+        jMenuItem5.addActionListener(paramActionEvent -> guardarLaberinto());
+        jMenu1.add(jMenuItem5);
+        jMenu1.addSeparator();
+
         JMenuItem jMenuItem3 = new JMenuItem("Ver resultados");
         jMenuItem3.addActionListener(paramActionEvent -> {
             ResultadosDialog resultadosDialog = new ResultadosDialog(this, this.resultDAO);
@@ -127,124 +286,322 @@ public class MazeFrame extends JFrame {
     }
 
     /**
-     * Orquesta el proceso de resolución: selecciona el algoritmo, mide el tiempo,
-     * ejecuta la búsqueda, guarda los resultados y los devuelve.
-     *
-     * @return El objeto SolveResults con el camino y las celdas visitadas.
+     * Orquesta el proceso de resolución: selecciona el algoritmo y lanza la búsqueda en un hilo aparte
+     * sobre una copia del laberinto, mientras la animación consume las visitas a medida que llegan.
+     * Si la misma resolución ya está en la caché se reproduce directamente, sin volver a medir ni a guardar.
+     * Una búsqueda anterior que siga en curso se cancela.
      */
-    private SolveResults resolverYObtenerResultados() {
-        MazeSolver selectedSolver = null;
+    private void resolver() {
         Cell cell1 = this.controller.getStartCell();
         Cell cell2 = this.controller.getEndCell();
         if (cell1 == null || cell2 == null) {
             JOptionPane.showMessageDialog(this, "Seleccione primero el origen y destino.");
-            return null;
+            return;
         }
+        cancelarBusqueda();
+        this.animator.cancelar();
         this.mazePanel.limpiarCeldasVisitadas();
+        MazeGrid grid = this.mazePanel.getGrid();
         String str = (String) this.algorithmSelector.getSelectedItem();
-
-        switch (str) {
-            case "Recursivo":           selectedSolver = new MazeSolverRecursivo();         break;
-            case "Recursivo Completo":  selectedSolver = new MazeSolverRecursivoCompleto(); break;
-            case "Recursivo Completo BT": selectedSolver = new MazeSolverRecursivoCompletoBT(); break;
-            case "DFS":                 selectedSolver = new MazeSolverDFS();               break;
-            case "BFS":                 selectedSolver = new MazeSolverBFS();               break;
-            default:                    selectedSolver = new MazeSolverRecursivo();         break;
+        VisitEventQueue eventos = new VisitEventQueue();
+        if (!grid.mayConnect(grid.getStart(), grid.getEnd())) {
+            eventos.onFinish(false);
+            animarVisitadas(eventos);
+            return;
+        }
+        SolveResults cacheado = this.solveCache.get(str, grid);
+        if (cacheado != null) {
+            SolveListener.replay(cacheado, grid, eventos);
+            animarVisitadas(eventos);
+            return;
         }
 
+        MazeSolver selectedSolver = crearSolucionador(str);
         if (selectedSolver == null) {
             JOptionPane.showMessageDialog(this, "Error: No se pudo inicializar el algoritmo.");
-            return null;
+            return;
         }
+        MazeGrid copia = grid.copy();
+        int segundos = (Integer) this.tiempoMaximo.getValue();
+        CancellationToken token = segundos > 0
+                ? CancellationToken.withBudget(TimeUnit.SECONDS.toNanos(segundos))
+                : CancellationToken.create();
+        this.busqueda = token;
+        this.progreso.setIndeterminate(true);
+        this.progreso.setString("Resolviendo con " + str + "...");
+        animarVisitadas(eventos);
+        SOLUCIONADOR.execute(() -> buscarEnSegundoPlano(str, selectedSolver, copia, eventos, token));
+    }
 
-        long l1 = System.nanoTime();
-        SolveResults solveResults = selectedSolver.getPath(this.mazePanel.getCells(), cell1, cell2);
-        long l2 = System.nanoTime();
-
-        if (solveResults != null && !solveResults.camino.isEmpty()) {
-            AlgorithmResult algorithmResult = new AlgorithmResult(str, solveResults.camino.size(), l2 - l1);
-            this.resultDAO.save(algorithmResult);
+    /**
+     * Abre el modo carrera: todos los solucionadores del registro resuelven a la vez una copia del
+     * laberinto actual, cada uno en su propio lienzo, con el tiempo máximo elegido para cada uno.
+     */
+    private void iniciarCarrera() {
+        if (this.controller.getStartCell() == null || this.controller.getEndCell() == null) {
+            JOptionPane.showMessageDialog(this, "Seleccione primero el origen y destino.");
+            return;
+        }
+        MazeGrid grid = this.mazePanel.getGrid();
+        if (grid.size() > CarreraDialog.MAX_CELDAS) {
+            JOptionPane.showMessageDialog(this, "El modo carrera admite laberintos de hasta "
+                    + CarreraDialog.MAX_CELDAS + " celdas; este tiene " + grid.size() + ".");
+            return;
         }
-        return solveResults;
+        if (!grid.mayConnect(grid.getStart(), grid.getEnd())) {
+            JOptionPane.showMessageDialog(this, "No se encontró un camino.");
+            return;
+        }
+        int segundos = (Integer) this.tiempoMaximo.getValue();
+        new CarreraDialog(this, grid, this.resultDAO, TimeUnit.SECONDS.toNanos(segundos)).setVisible(true);
+    }
+
+    /**
+     * Pide que la búsqueda en curso se detenga; el solucionador lo atiende en su próxima comprobación.
+     */
+    private void cancelarBusqueda() {
+        this.busqueda.cancel();
     }
 
     /**
-     * Pinta una celda de un color específico en el hilo de despacho de eventos de Swing.
+     * Detiene el indicador de progreso al terminar una búsqueda, salvo que ya haya empezado otra.
      *
-     * @param paramCell La celda a pintar.
-     * @param paramCellState El nuevo estado (y color) para la celda.
+     * @param token El testigo de la búsqueda que terminó.
+     * @param estado El texto que queda en el indicador.
      */
-    private void paintCell(Cell paramCell, CellState paramCellState) {
-        JButton jButton = this.mazePanel.getButton(paramCell.row, paramCell.col);
-        jButton.setBackground(COLOR_MAP.getOrDefault(paramCellState, Color.WHITE));
+    private void terminarBusqueda(CancellationToken token, String estado) {
+        if (this.busqueda != token)
+            return;
+        this.busqueda = CancellationToken.NONE;
+        this.progreso.setIndeterminate(false);
+        this.progreso.setString(estado);
     }
 
     /**
-     * Anima el proceso de resolución en un hilo separado para no congelar la interfaz.
-     * Primero pinta las celdas visitadas y luego el camino final.
+     * Ejecuta la búsqueda fuera del hilo de Swing y después pasa los eventos a la cola de la animación.
+     * Solo se mide la búsqueda: los eventos se graban sin receptor y se reproducen en la cola al terminar,
+     * y la matriz de `Cell` de los solucionadores clásicos se construye antes de medir (ver
+     * {@link SolveRecorder#record(MazeSolver, MazeGrid)}), así el tiempo guardado es comparable con el de
+     * `Benchmark`. Al terminar guarda el resultado en la caché y, si hay camino, en el DAO. Una búsqueda
+     * cancelada, fuera de tiempo o sin memoria no guarda nada.
      *
-     * @param paramList1 La lista de celdas visitadas.
-     * @param paramList2 La lista de celdas del camino final.
+     * @param str El nombre del algoritmo.
+     * @param selectedSolver El solucionador a usar.
+     * @param copia La copia del laberinto que se resuelve.
+     * @param eventos La cola que consume la animación.
+     * @param token El testigo con el que se cancela la búsqueda.
      */
-    private void animarVisitadas(List<Cell> paramList1, List<Cell> paramList2) {
-        new Thread(() -> {
-            try {
-                // Animar celdas visitadas
-                for (Cell cell : paramList1) {
-                    if (cell.state == CellState.EMPTY) {
-                        SwingUtilities.invokeLater(() -> paintCell(cell, CellState.EMPTY));
-                        Thread.sleep(30L);
-                    }
-                }
-                // Animar camino final
-                if (paramList2.isEmpty()) {
-                    SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this, "No se encontró un camino."));
-                    return;
-                }
-                for (Cell cell : paramList2) {
-                    if (cell.state != CellState.START && cell.state != CellState.END) {
-                        SwingUtilities.invokeLater(() -> paintCell(cell, CellState.PATH));
-                        Thread.sleep(80L);
-                    }
-                }
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+    private void buscarEnSegundoPlano(String str, MazeSolver selectedSolver, MazeGrid copia, VisitEventQueue eventos,
+                                      CancellationToken token) {
+        SolveRecorder grabador = new SolveRecorder();
+        selectedSolver.setCancellationToken(token);
+        long nanos;
+        SolveResults solveResults;
+        try {
+            nanos = grabador.record(selectedSolver, copia);
+            solveResults = grabador.toResults(copia);
+            grabador.replay(eventos);
+        } catch (SolveCancelledException e) {
+            eventos.close();
+            SwingUtilities.invokeLater(() -> {
+                terminarBusqueda(token, e.isTimeout() ? "Tiempo máximo agotado" : "Cancelada");
+                if (e.isTimeout())
+                    JOptionPane.showMessageDialog(this, str + " superó el tiempo máximo de búsqueda.");
+            });
+            return;
+        } catch (RuntimeException | StackOverflowError | OutOfMemoryError e) {
+            eventos.close();
+            SwingUtilities.invokeLater(() -> {
+                terminarBusqueda(token, "Error");
+                JOptionPane.showMessageDialog(this, "Error al resolver con " + str + ": " + e);
+            });
+            return;
+        } finally {
+            selectedSolver.setCancellationToken(CancellationToken.NONE);
+        }
+        SwingUtilities.invokeLater(() -> {
+            terminarBusqueda(token, String.format("%s: %.1f ms", str, nanos / 1e6));
+            this.solveCache.put(str, copia, solveResults);
+            if (grabador.isFound()) {
+                AlgorithmResult algorithmResult = new AlgorithmResult(str, grabador.getPathLength(), nanos,
+                        copia.getFingerprint(), System.currentTimeMillis());
+                this.resultDAO.save(algorithmResult);
             }
-        }).start();
+        });
+    }
+
+    /**
+     * Crea el solucionador correspondiente al nombre elegido en el selector. El LPA* incremental es
+     * siempre la misma instancia, para que conserve su estado entre resoluciones.
+     *
+     * @param str El nombre del algoritmo.
+     * @return El solucionador.
+     */
+    private MazeSolver crearSolucionador(String str) {
+        if ("LPA* Incremental".equals(str))
+            return this.lpaEstrella;
+        return SolverRegistry.contains(str) ? SolverRegistry.create(str) : new MazeSolverRecursivo();
     }
 
     /**
-     * Solicita al usuario las nuevas dimensiones para el laberinto.
+     * Anima el proceso de resolución con el `SolveAnimator`, que consume los eventos de la cola a medida
+     * que el solucionador los produce y los pinta por lotes en cada cuadro, sin bloquear la interfaz.
+     * Cualquier animación anterior se cancela.
      *
-     * @return un array de int con {filas, columnas} o null si el usuario cancela.
+     * @param eventos La cola de eventos de la resolución.
      */
-    public int[] solicitarDimensiones() {
+    private void animarVisitadas(VisitEventQueue eventos) {
+        this.animator.iniciar(eventos);
+        this.pausaButton.setText("Pausa");
+    }
+
+    /**
+     * Solicita al usuario las dimensiones y el generador del nuevo laberinto: filas, columnas, algoritmo
+     * (o un laberinto vacío para dibujar a mano), semilla y, para el relleno aleatorio, la densidad de muros.
+     *
+     * @return Una tarea que construye el laberinto pedido, o `null` si el usuario cancela.
+     */
+    private Supplier<MazeGrid> solicitarGenerador() {
+        JSpinner jSpinner1 = new JSpinner(new SpinnerNumberModel(this.mazePanel.getGrid().getRows(), 5, 20_000, 1));
+        JSpinner jSpinner2 = new JSpinner(new SpinnerNumberModel(this.mazePanel.getGrid().getCols(), 5, 20_000, 1));
+        JComboBox<String> jComboBox = new JComboBox<>();
+        jComboBox.addItem(SIN_GENERADOR);
+        for (String nombre : GeneratorRegistry.names())
+            jComboBox.addItem(nombre);
+        JTextField jTextField = new JTextField(Long.toString(System.currentTimeMillis()), 12);
+        JSpinner jSpinner3 = new JSpinner(new SpinnerNumberModel(GeneratorRegistry.DENSIDAD_POR_DEFECTO, 0.0, 1.0, 0.05));
+        Runnable habilitar = () -> {
+            Object elegido = jComboBox.getSelectedItem();
+            jTextField.setEnabled(!SIN_GENERADOR.equals(elegido));
+            jSpinner3.setEnabled("Relleno aleatorio".equals(elegido));
+        };
+        jComboBox.addActionListener(e -> habilitar.run());
+        habilitar.run();
+
+        JPanel jPanel1 = new JPanel(new GridLayout(5, 2, 5, 5));
+        jPanel1.add(new JLabel("Filas:"));
+        jPanel1.add(jSpinner1);
+        jPanel1.add(new JLabel("Columnas:"));
+        jPanel1.add(jSpinner2);
+        jPanel1.add(new JLabel("Generador:"));
+        jPanel1.add(jComboBox);
+        jPanel1.add(new JLabel("Semilla:"));
+        jPanel1.add(jTextField);
+        jPanel1.add(new JLabel("Densidad de muros:"));
+        jPanel1.add(jSpinner3);
+        if (JOptionPane.showConfirmDialog(this, jPanel1, "Nuevo laberinto", JOptionPane.OK_CANCEL_OPTION)
+                != JOptionPane.OK_OPTION)
+            return null;
+
+        int i = (Integer) jSpinner1.getValue();
+        int j = (Integer) jSpinner2.getValue();
+        String str = (String) jComboBox.getSelectedItem();
+        if (SIN_GENERADOR.equals(str))
+            return () -> new MazeGrid(i, j);
+        long semilla;
         try {
-            String str1 = JOptionPane.showInputDialog("Ingrese numero de filas 🙂:");
-            if (str1 == null) return null;
-            String str2 = JOptionPane.showInputDialog("Ingrese numero de columnas 🙂:");
-            if (str2 == null) return null;
-            int i = Integer.parseInt(str1.trim());
-            int j = Integer.parseInt(str2.trim());
-            if (i <= 4 || j <= 4) {
-                JOptionPane.showMessageDialog(null, "Debe ingresar valores mayores a 4 😁.");
-                return null;
-            }
-            return new int[]{i, j};
+            semilla = Long.parseLong(jTextField.getText().trim());
         } catch (NumberFormatException numberFormatException) {
-            JOptionPane.showMessageDialog(null, "Debe ingresar numero valido 😁");
+            JOptionPane.showMessageDialog(this, "Debe ingresar una semilla numérica 😁");
             return null;
         }
+        MazeGenerator generador = "Relleno aleatorio".equals(str)
+                ? new MazeGeneratorAleatorio((Double) jSpinner3.getValue())
+                : GeneratorRegistry.create(str);
+        return () -> generador.generate(i, j, semilla);
     }
 
     /**
-     * Cierra la ventana actual y crea una nueva instancia de MazeFrame con nuevas dimensiones.
+     * Cierra la ventana actual y crea una nueva instancia de MazeFrame con el laberinto pedido. Los
+     * laberintos grandes pueden tardar unos segundos en generarse, así que la generación y el índice de
+     * componentes conexas se calculan en un hilo aparte y la ventana se cambia al terminar.
      */
     private void reiniciarLaberinto() {
-        int[] arrayOfInt = solicitarDimensiones();
-        if (arrayOfInt == null) return;
-        dispose();
-        SwingUtilities.invokeLater(() -> new MazeFrame(arrayOfInt[0], arrayOfInt[1]));
+        Supplier<MazeGrid> supplier = solicitarGenerador();
+        if (supplier == null) return;
+        cancelarBusqueda();
+        this.animator.cancelar();
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new Thread(() -> {
+            try {
+                MazeGrid grid = supplier.get();
+                ConnectivityIndex connectivityIndex = new ConnectivityIndex(grid);
+                SwingUtilities.invokeLater(() -> {
+                    dispose();
+                    new MazeFrame(grid, connectivityIndex);
+                });
+            } catch (RuntimeException | OutOfMemoryError e) {
+                SwingUtilities.invokeLater(() -> {
+                    setCursor(Cursor.getDefaultCursor());
+                    JOptionPane.showMessageDialog(this, "No se pudo generar el laberinto: " + e);
+                });
+            }
+        }, "generador").start();
+    }
+
+    /**
+     * Crea el selector de archivos de laberintos, filtrado por la extensión del formato binario.
+     */
+    private static JFileChooser crearSelectorLaberintos() {
+        JFileChooser jFileChooser = new JFileChooser();
+        jFileChooser.setFileFilter(new FileNameExtensionFilter(
+                "Laberinto binario (*." + MazeDAOBinary.EXTENSION + ")", MazeDAOBinary.EXTENSION));
+        return jFileChooser;
+    }
+
+    /**
+     * Pide un archivo de laberinto, lo carga y calcula su índice de componentes conexas en un hilo aparte,
+     * y reemplaza la ventana actual por una que lo muestra.
+     */
+    private void abrirLaberinto() {
+        JFileChooser jFileChooser = crearSelectorLaberintos();
+        if (jFileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        File file = jFileChooser.getSelectedFile();
+        cancelarBusqueda();
+        this.animator.cancelar();
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new Thread(() -> {
+            try {
+                MazeGrid grid = this.mazeDAO.load(file);
+                ConnectivityIndex connectivityIndex = new ConnectivityIndex(grid);
+                SwingUtilities.invokeLater(() -> {
+                    dispose();
+                    new MazeFrame(grid, connectivityIndex);
+                });
+            } catch (IOException | RuntimeException | OutOfMemoryError e) {
+                SwingUtilities.invokeLater(() -> {
+                    setCursor(Cursor.getDefaultCursor());
+                    JOptionPane.showMessageDialog(this, "No se pudo abrir el laberinto: " + e.getMessage());
+                });
+            }
+        }, "cargar-laberinto").start();
+    }
+
+    /**
+     * Pide un archivo y guarda en él el laberinto actual (muros, inicio y fin). Si el nombre no tiene
+     * extensión se le agrega la del formato binario. Como al abrir, el archivo se escribe en un hilo
+     * aparte, sobre una copia del laberinto tomada en el hilo de Swing para poder seguir editándolo.
+     */
+    private void guardarLaberinto() {
+        JFileChooser jFileChooser = crearSelectorLaberintos();
+        if (jFileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        File seleccionado = jFileChooser.getSelectedFile();
+        File file = seleccionado.getName().contains(".")
+                ? seleccionado
+                : new File(seleccionado.getPath() + "." + MazeDAOBinary.EXTENSION);
+        MazeGrid grid = this.mazePanel.getGrid().copy();
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new Thread(() -> {
+            try {
+                this.mazeDAO.save(grid, file);
+                SwingUtilities.invokeLater(() -> setCursor(Cursor.getDefaultCursor()));
+            } catch (IOException | RuntimeException e) {
+                SwingUtilities.invokeLater(() -> {
+                    setCursor(Cursor.getDefaultCursor());
+                    JOptionPane.showMessageDialog(this, "No se pudo guardar el laberinto: " + e.getMessage());
+                });
+            }
+        }, "guardar-laberinto").start();
     }
 
     /**
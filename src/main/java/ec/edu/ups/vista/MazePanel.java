@@ -3,17 +3,61 @@ package ec.edu.ups.vista;
 import ec.edu.ups.controlador.MazeController;
 import ec.edu.ups.models.Cell;
 import ec.edu.ups.models.CellState;
+import ec.edu.ups.models.MazeGrid;
+import ec.edu.ups.solver.VisitEventQueue;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.Arrays;
 
 /**
- * Panel de Swing que representa visualmente el laberinto como una cuadrícula de botones.
- * Cada botón en el panel corresponde a una celda en el modelo de datos del laberinto.
+ * Panel de Swing que representa visualmente el laberinto.
+ * <p>
+ * Tiene dos modos de dibujo. En el modo de botones cada celda es un `JButton` dentro de un `GridLayout`;
+ * es el modo original y se usa en laberintos pequeños. En el modo de lienzo todo el laberinto se pinta
+ * sobre un único componente ({@link MazeCanvas}) dentro de un `JScrollPane`, directamente desde la
+ * cuadrícula compacta: no existe un objeto por celda, solo se pinta la región visible y cada cambio
+ * repinta únicamente el rectángulo de su celda, así que sirve para laberintos de miles de filas.
+ * </p>
+ * El controlador y la animación modifican la vista solo a través de {@link #actualizarCelda(int, int)},
+ * {@link #marcarVisitada(int, int)}, {@link #marcarCamino(int, int)}, {@link #pintarEventos(int[], int)} y
+ * {@link #limpiarCeldasVisitadas()}, que funcionan igual en ambos modos. Las celdas marcadas por una
+ * búsqueda se registran en una lista, de modo que limpiar y repintar cuestan lo que la búsqueda tocó y no
+ * lo que mide el laberinto.
  *
  * @author Cristian Moscoso
  */
 public class MazePanel extends JPanel {
+    /**
+     * Los modos de dibujo del panel.
+     */
+    public enum RenderMode {
+        BUTTONS, CANVAS;
+    }
+
+    /** Número máximo de celdas para el que se eligen botones de forma automática. */
+    public static final int MAX_CELDAS_BOTONES = 64 * 64;
+
+    /** Color de una celda transitable. */
+    static final Color COLOR_VACIA = Color.WHITE;
+    /** Color de una celda visitada por la búsqueda. */
+    static final Color COLOR_VISITADA = Color.LIGHT_GRAY;
+    /** Color de una celda del camino encontrado. */
+    static final Color COLOR_CAMINO = Color.BLUE;
+    /** Color de un muro. */
+    static final Color COLOR_MURO = Color.BLACK;
+    /** Color de la celda de inicio. */
+    static final Color COLOR_INICIO = Color.GREEN;
+    /** Color de la celda de fin. */
+    static final Color COLOR_FIN = Color.RED;
+
+    /** Marca de una celda sin pintar por la búsqueda. */
+    private static final byte SIN_MARCA = 0;
+    /** Marca de una celda visitada. */
+    private static final byte MARCA_VISITADA = 1;
+    /** Marca de una celda del camino. */
+    private static final byte MARCA_CAMINO = 2;
+
     /**
      * El número de filas en el laberinto.
      */
@@ -23,31 +67,117 @@ public class MazePanel extends JPanel {
      */
     private final int cols;
     /**
-     * La matriz de celdas que representa el estado lógico del laberinto.
+     * El modo de dibujo del panel.
+     */
+    private final RenderMode mode;
+    /**
+     * La matriz de celdas que representa el estado lógico del laberinto, o `null` en el modo de lienzo.
      */
     private final Cell[][] cells;
     /**
-     * La matriz de botones que representa la vista del laberinto.
+     * La matriz de botones que representa la vista del laberinto, o `null` en el modo de lienzo.
      */
     private final JButton[][] buttons;
+    /**
+     * El lienzo que pinta el laberinto, o `null` en el modo de botones.
+     */
+    private final MazeCanvas canvas;
+    /**
+     * La representación compacta del laberinto. En el modo de botones está asociada a la matriz de celdas
+     * sin copiarla; en el modo de lienzo es el único modelo del laberinto.
+     */
+    private final MazeGrid grid;
+    /**
+     * Lo que la última búsqueda pintó sobre cada celda (visitada o camino), un byte por celda.
+     */
+    private final byte[] marcas;
+    /**
+     * Índices de las celdas marcadas desde la última limpieza (puede contener repetidos o celdas cuya
+     * marca ya se quitó); limpiar recorre solo esta lista.
+     */
+    private int[] sucias = new int[64];
+    /**
+     * Número de entradas usadas en {@link #sucias}.
+     */
+    private int nSucias;
     /**
      * El controlador que maneja las interacciones del usuario en este panel.
      */
     private MazeController controller;
 
     /**
-     * Construye un nuevo panel de laberinto con las dimensiones especificadas.
+     * Construye un nuevo panel de laberinto con las dimensiones especificadas. Usa botones si el laberinto
+     * tiene como mucho {@link #MAX_CELDAS_BOTONES} celdas y el lienzo en caso contrario.
      *
      * @param paramInt1 El número de filas.
      * @param paramInt2 El número de columnas.
      */
     public MazePanel(int paramInt1, int paramInt2) {
-        this.rows = paramInt1;
-        this.cols = paramInt2;
-        this.cells = new Cell[paramInt1][paramInt2];
-        this.buttons = new JButton[paramInt1][paramInt2];
-        setLayout(new GridLayout(paramInt1, paramInt2));
-        initGrid();
+        this(paramInt1, paramInt2, (long) paramInt1 * paramInt2 <= MAX_CELDAS_BOTONES
+                ? RenderMode.BUTTONS : RenderMode.CANVAS);
+    }
+
+    /**
+     * Construye un nuevo panel de laberinto con las dimensiones y el modo de dibujo especificados.
+     *
+     * @param paramInt1 El número de filas.
+     * @param paramInt2 El número de columnas.
+     * @param paramRenderMode El modo de dibujo.
+     */
+    public MazePanel(int paramInt1, int paramInt2, RenderMode paramRenderMode) {
+        this(new MazeGrid(paramInt1, paramInt2), paramRenderMode);
+    }
+
+    /**
+     * Construye un panel que muestra un laberinto ya existente, por ejemplo uno generado. Elige el modo de
+     * dibujo igual que {@link #MazePanel(int, int)}.
+     *
+     * @param paramMazeGrid El laberinto a mostrar.
+     */
+    public MazePanel(MazeGrid paramMazeGrid) {
+        this(paramMazeGrid, paramMazeGrid.size() <= MAX_CELDAS_BOTONES ? RenderMode.BUTTONS : RenderMode.CANVAS);
+    }
+
+    /**
+     * Construye un panel que muestra un laberinto ya existente con el modo de dibujo especificado. En el
+     * modo de lienzo el panel usa la cuadrícula recibida sin copiarla; en el de botones crea las celdas con
+     * el estado de cada posición y una cuadrícula nueva asociada a ellas.
+     *
+     * @param paramMazeGrid El laberinto a mostrar.
+     * @param paramRenderMode El modo de dibujo.
+     */
+    public MazePanel(MazeGrid paramMazeGrid, RenderMode paramRenderMode) {
+        this.rows = paramMazeGrid.getRows();
+        this.cols = paramMazeGrid.getCols();
+        this.mode = paramRenderMode;
+        this.marcas = new byte[paramMazeGrid.size()];
+        if (paramRenderMode == RenderMode.BUTTONS) {
+            this.cells = new Cell[this.rows][this.cols];
+            this.buttons = new JButton[this.rows][this.cols];
+            this.canvas = null;
+            setLayout(new GridLayout(this.rows, this.cols));
+            initGrid(paramMazeGrid);
+            this.grid = MazeGrid.fromCells(this.cells, celdaDe(paramMazeGrid.getStart()),
+                    celdaDe(paramMazeGrid.getEnd()));
+        } else {
+            this.cells = null;
+            this.buttons = null;
+            this.grid = paramMazeGrid;
+            this.canvas = new MazeCanvas(this);
+            setLayout(new BorderLayout());
+            add(new JScrollPane(this.canvas), BorderLayout.CENTER);
+        }
+    }
+
+    /**
+     * En el modo de lienzo, ajusta el tamaño de celda para que el laberinto ocupe unos `lado` píxeles;
+     * en el modo de botones no hace nada.
+     *
+     * @param lado El lado aproximado, en píxeles.
+     */
+    void ajustarLienzo(int lado) {
+        if (this.canvas != null)
+            this.canvas.ajustarA(lado);
     }
 
     /**
@@ -61,56 +191,278 @@ public class MazePanel extends JPanel {
 
     /**
      * Inicializa la cuadrícula de celdas y botones.
-     * Crea cada celda y su botón correspondiente, y configura el listener para los clics.
+     * Crea cada celda y su botón correspondiente con el estado que tiene en el laberinto de origen, y
+     * configura el listener para los clics.
+     *
+     * @param origen El laberinto del que se toma el estado de cada celda.
      */
-    private void initGrid() {
-        for (byte b = 0; b < this.rows; b++) {
-            for (byte b1 = 0; b1 < this.cols; b1++) {
-                Cell cell = new Cell(b, b1);
+    private void initGrid(MazeGrid origen) {
+        for (int r = 0; r < this.rows; r++) {
+            for (int c = 0; c < this.cols; c++) {
+                Cell cell = new Cell(r, c);
+                cell.state = origen.stateAt(r * this.cols + c);
                 JButton jButton = new JButton();
-                jButton.setBackground(Color.WHITE);
+                jButton.setBackground(colorDeEstado(cell.state));
                 jButton.setOpaque(true);
                 jButton.setBorder(BorderFactory.createLineBorder(Color.GRAY));
 
-                final byte rowCoord = b;
-                final byte colCoord = b1;
+                final int rowCoord = r;
+                final int colCoord = c;
 
                 // Cuando se hace clic en un botón, notifica al controlador.
-                jButton.addActionListener(paramActionEvent -> {
-                    if (this.controller != null)
-                        this.controller.onCellClicked(rowCoord, colCoord);
-                });
+                jButton.addActionListener(paramActionEvent -> celdaClickeada(rowCoord, colCoord));
                 add(jButton);
-                this.cells[b][b1] = cell;
-                this.buttons[b][b1] = jButton;
+                this.cells[r][c] = cell;
+                this.buttons[r][c] = jButton;
+            }
+        }
+    }
+
+    /**
+     * Notifica al controlador un clic sobre una celda, venga de un botón o del lienzo.
+     *
+     * @param paramInt1 La fila de la celda.
+     * @param paramInt2 La columna de la celda.
+     */
+    void celdaClickeada(int paramInt1, int paramInt2) {
+        if (this.controller != null)
+            this.controller.onCellClicked(paramInt1, paramInt2);
+    }
+
+    /**
+     * Vuelve a pintar una celda según su estado en la cuadrícula (muro, inicio, fin o transitable) y
+     * descarta lo que la búsqueda había pintado sobre ella. En el modo de botones también sincroniza el
+     * estado de la `Cell` correspondiente. El controlador la llama tras cada cambio en la cuadrícula.
+     *
+     * @param paramInt1 La fila de la celda.
+     * @param paramInt2 La columna de la celda.
+     */
+    public void actualizarCelda(int paramInt1, int paramInt2) {
+        int index = this.grid.index(paramInt1, paramInt2);
+        this.marcas[index] = SIN_MARCA;
+        if (this.cells != null)
+            this.cells[paramInt1][paramInt2].state = this.grid.stateAt(index);
+        repintarCelda(paramInt1, paramInt2);
+    }
+
+    /**
+     * Pinta una celda transitable como visitada. Los muros y los extremos no se modifican.
+     *
+     * @param paramInt1 La fila de la celda.
+     * @param paramInt2 La columna de la celda.
+     */
+    public void marcarVisitada(int paramInt1, int paramInt2) {
+        int index = this.grid.index(paramInt1, paramInt2);
+        if (!marcarVisitada(index))
+            return;
+        repintarCelda(paramInt1, paramInt2);
+    }
+
+    /**
+     * Pinta una celda como parte del camino. El inicio y el fin conservan su color.
+     *
+     * @param paramInt1 La fila de la celda.
+     * @param paramInt2 La columna de la celda.
+     */
+    public void marcarCamino(int paramInt1, int paramInt2) {
+        if (!marcarCamino(this.grid.index(paramInt1, paramInt2)))
+            return;
+        repintarCelda(paramInt1, paramInt2);
+    }
+
+    /**
+     * Pinta un lote de eventos de una `VisitEventQueue` (visitas y celdas del camino). En el modo de
+     * lienzo se pide un único repintado del rectángulo que abarca las celdas cambiadas, en lugar de uno
+     * por celda.
+     *
+     * @param eventos Arreglo con los eventos.
+     * @param n Cantidad de eventos a pintar, desde el principio del arreglo.
+     */
+    public void pintarEventos(int[] eventos, int n) {
+        int fila0 = Integer.MAX_VALUE, columna0 = Integer.MAX_VALUE, fila1 = -1, columna1 = -1;
+        for (int i = 0; i < n; i++) {
+            int evento = eventos[i];
+            int index = VisitEventQueue.cellOf(evento);
+            boolean cambio = VisitEventQueue.isPath(evento) ? marcarCamino(index) : marcarVisitada(index);
+            if (!cambio)
+                continue;
+            int fila = this.grid.rowOf(index);
+            int columna = this.grid.colOf(index);
+            if (this.canvas == null) {
+                this.buttons[fila][columna].setBackground(colorDe(index));
+                continue;
             }
+            fila0 = Math.min(fila0, fila);
+            fila1 = Math.max(fila1, fila);
+            columna0 = Math.min(columna0, columna);
+            columna1 = Math.max(columna1, columna);
         }
+        if (this.canvas != null && fila1 >= 0)
+            this.canvas.repintarRegion(fila0, columna0, fila1, columna1);
     }
 
     /**
      * Restablece el color de las celdas que fueron marcadas como visitadas o parte del camino,
      * devolviéndolas a su estado visual 'EMPTY' (blanco).
-     * No afecta a los muros, inicio o fin.
+     * No afecta a los muros, inicio o fin. Solo recorre las celdas marcadas desde la limpieza anterior,
+     * así que su costo no depende del tamaño del laberinto.
      */
     public void limpiarCeldasVisitadas() {
-        for (byte b = 0; b < this.rows; b++) {
-            for (byte b1 = 0; b1 < this.cols; b1++) {
-                Cell cell = this.cells[b][b1];
-                if (cell.state != CellState.WALL && cell.state != CellState.START && cell.state != CellState.END) {
-                    cell.state = CellState.EMPTY;
-                    this.buttons[b][b1].setBackground(Color.WHITE);
-                }
+        int fila0 = Integer.MAX_VALUE, columna0 = Integer.MAX_VALUE, fila1 = -1, columna1 = -1;
+        for (int i = 0; i < this.nSucias; i++) {
+            int index = this.sucias[i];
+            if (this.marcas[index] == SIN_MARCA)
+                continue;
+            this.marcas[index] = SIN_MARCA;
+            int fila = this.grid.rowOf(index);
+            int columna = this.grid.colOf(index);
+            if (this.canvas == null) {
+                this.buttons[fila][columna].setBackground(colorDe(index));
+                continue;
             }
+            fila0 = Math.min(fila0, fila);
+            fila1 = Math.max(fila1, fila);
+            columna0 = Math.min(columna0, columna);
+            columna1 = Math.max(columna1, columna);
+        }
+        this.nSucias = 0;
+        if (this.canvas != null && fila1 >= 0)
+            this.canvas.repintarRegion(fila0, columna0, fila1, columna1);
+    }
+
+    /** @return El número de celdas registradas como marcadas desde la última limpieza. */
+    public int getCeldasSucias() {
+        return this.nSucias;
+    }
+
+    /**
+     * Marca una celda transitable como visitada si todavía no está en el camino.
+     *
+     * @return `true` si la marca cambió.
+     */
+    private boolean marcarVisitada(int index) {
+        byte marca = this.marcas[index];
+        if (marca != SIN_MARCA || this.grid.stateAt(index) != CellState.EMPTY)
+            return false;
+        registrarSucia(index);
+        this.marcas[index] = MARCA_VISITADA;
+        return true;
+    }
+
+    /**
+     * Marca una celda como parte del camino, salvo el inicio y el fin.
+     *
+     * @return `true` si la marca cambió.
+     */
+    private boolean marcarCamino(int index) {
+        byte marca = this.marcas[index];
+        if (marca == MARCA_CAMINO)
+            return false;
+        CellState state = this.grid.stateAt(index);
+        if (state == CellState.START || state == CellState.END)
+            return false;
+        if (marca == SIN_MARCA)
+            registrarSucia(index);
+        this.marcas[index] = MARCA_CAMINO;
+        return true;
+    }
+
+    /**
+     * Agrega una celda a la lista de celdas por limpiar, ampliándola si hace falta.
+     */
+    private void registrarSucia(int index) {
+        if (this.nSucias == this.sucias.length)
+            this.sucias = Arrays.copyOf(this.sucias, 2 * this.sucias.length);
+        this.sucias[this.nSucias++] = index;
+    }
+
+    /**
+     * Devuelve el color con el que debe verse una celda: el de su estado en la cuadrícula, o el que le
+     * dio la búsqueda si es transitable.
+     *
+     * @param index Índice de la celda.
+     * @return El color de la celda.
+     */
+    Color colorDe(int index) {
+        CellState state = this.grid.stateAt(index);
+        if (state != CellState.EMPTY)
+            return colorDeEstado(state);
+        byte marca = this.marcas[index];
+        if (marca == MARCA_CAMINO)
+            return COLOR_CAMINO;
+        return marca == MARCA_VISITADA ? COLOR_VISITADA : COLOR_VACIA;
+    }
+
+    /**
+     * @param state El estado de una celda.
+     * @return El color de una celda con ese estado, sin marcas de búsqueda.
+     */
+    private static Color colorDeEstado(CellState state) {
+        switch (state) {
+            case WALL:
+                return COLOR_MURO;
+            case START:
+                return COLOR_INICIO;
+            case END:
+                return COLOR_FIN;
+            default:
+                return COLOR_VACIA;
         }
     }
 
     /**
-     * Obtiene la matriz de celdas que representa el modelo de datos del laberinto.
+     * @return La celda del panel con el índice dado, o `null` si el índice es {@link MazeGrid#NONE}.
+     */
+    private Cell celdaDe(int index) {
+        return index == MazeGrid.NONE ? null : this.cells[index / this.cols][index % this.cols];
+    }
+
+    /**
+     * Refleja en pantalla el color actual de una celda: cambia el fondo de su botón o repinta solo su
+     * rectángulo en el lienzo.
+     */
+    private void repintarCelda(int paramInt1, int paramInt2) {
+        if (this.canvas != null)
+            this.canvas.repintarCelda(paramInt1, paramInt2);
+        else
+            this.buttons[paramInt1][paramInt2].setBackground(colorDe(this.grid.index(paramInt1, paramInt2)));
+    }
+
+    /**
+     * Obtiene la matriz de celdas que representa el modelo de datos del laberinto. En el modo de lienzo
+     * no hay una matriz asociada y se construye una instantánea nueva a partir de la cuadrícula.
      *
      * @return La matriz 2D de celdas.
      */
     public Cell[][] getCells() {
-        return this.cells;
+        return this.cells != null ? this.cells : this.grid.toCells();
+    }
+
+    /**
+     * Obtiene la celda en una posición: la instancia del panel en el modo de botones o, en el modo de
+     * lienzo, una celda nueva con el estado actual de la cuadrícula.
+     *
+     * @param paramInt1 La fila de la celda.
+     * @param paramInt2 La columna de la celda.
+     * @return La celda en esa posición.
+     */
+    public Cell getCell(int paramInt1, int paramInt2) {
+        return this.grid.cellAt(this.grid.index(paramInt1, paramInt2));
+    }
+
+    /**
+     * Obtiene la representación compacta del laberinto. En el modo de botones comparte la matriz de
+     * celdas de este panel, por lo que no implica ninguna copia; el controlador la mantiene sincronizada.
+     *
+     * @return La cuadrícula compacta del laberinto.
+     */
+    public MazeGrid getGrid() {
+        return this.grid;
+    }
+
+    /** @return El modo de dibujo del panel. */
+    public RenderMode getRenderMode() {
+        return this.mode;
     }
 
     /**
@@ -118,9 +470,9 @@ public class MazePanel extends JPanel {
      *
      * @param paramInt1 La fila del botón.
      * @param paramInt2 La columna del botón.
-     * @return El JButton en la posición especificada.
+     * @return El JButton en la posición especificada, o `null` en el modo de lienzo.
      */
     public JButton getButton(int paramInt1, int paramInt2) {
-        return this.buttons[paramInt1][paramInt2];
+        return this.buttons != null ? this.buttons[paramInt1][paramInt2] : null;
     }
-}
\ No newline at end of file
+}
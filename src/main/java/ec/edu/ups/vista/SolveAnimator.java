@@ -0,0 +1,227 @@
+package ec.edu.ups.vista;
+
+import ec.edu.ups.solver.VisitEventQueue;
+
+import javax.swing.Timer;
+import java.util.function.Consumer;
+
+/**
+ * Motor de animación de una resolución, movido por un `javax.swing.Timer`.
+ * <p>
+ * En cada cuadro (a la tasa configurada, 60 por segundo por defecto) saca de la `VisitEventQueue` un lote
+ * de eventos y los pinta de una vez en el `MazePanel`, siempre en el hilo de Swing y sin hilos propios.
+ * El tamaño del lote depende del modo:
+ * </p>
+ * <ul>
+ *   <li>Por velocidad: se pintan tantas celdas por segundo como indique {@link #setCeldasPorSegundo(int)}.</li>
+ *   <li>Por duración: se reparte lo que queda en la cola entre el tiempo que falta para la duración
+ *   indicada con {@link #setDuracionObjetivo(long)}, de modo que la animación termina a tiempo aunque la
+ *   búsqueda tenga millones de visitas. Es el modo por defecto, con {@link #DURACION_POR_DEFECTO_MS}.</li>
+ * </ul>
+ * La animación puede pausarse, cancelarse o saltar al final. Iniciar una animación nueva cancela la
+ * anterior. Todos los métodos deben llamarse desde el hilo de Swing.
+ */
+public class SolveAnimator {
+    /** Cuadros por segundo por defecto. */
+    public static final int FPS_POR_DEFECTO = 60;
+    /** Velocidad inicial del modo por velocidad, equivalente a la pausa original de 30 ms por celda. */
+    public static final int CELDAS_POR_SEGUNDO_POR_DEFECTO = 33;
+    /** Duración por defecto de una animación, en milisegundos, sin importar cuántas visitas tenga. */
+    public static final int DURACION_POR_DEFECTO_MS = 5_000;
+    /** Máximo de eventos que se copian de la cola en cada lectura. */
+    private static final int LOTE_MAXIMO = 1 << 14;
+
+    /** El panel donde se pinta. */
+    private final MazePanel panel;
+    /** Acción a ejecutar al terminar una animación que no fue cancelada; recibe si hubo camino. */
+    private final Consumer<Boolean> alTerminar;
+    /** El temporizador que marca los cuadros. */
+    private final Timer timer;
+    /** Buffer para los eventos de un lote. */
+    private final int[] lote = new int[LOTE_MAXIMO];
+
+    /** La cola de la animación en curso, o `null` si no hay ninguna. */
+    private VisitEventQueue eventos;
+    /** Celdas por segundo en el modo por velocidad. */
+    private int celdasPorSegundo = CELDAS_POR_SEGUNDO_POR_DEFECTO;
+    /** Duración objetivo en nanosegundos, o 0 para el modo por velocidad. */
+    private long duracionObjetivo = DURACION_POR_DEFECTO_MS * 1_000_000L;
+    /** Fracción de celda acumulada entre cuadros en el modo por velocidad. */
+    private double credito;
+    /** Tiempo animado (sin contar pausas) de la animación en curso, en nanosegundos. */
+    private long transcurrido;
+    /** Instante del cuadro anterior, en nanosegundos. */
+    private long ultimoCuadro;
+    /** Indica que la animación está en pausa. */
+    private boolean pausada;
+    /** Indica que se pidió pintar todo lo que llegue sin esperar. */
+    private boolean saltar;
+
+    /**
+     * Construye un animador con la tasa de cuadros por defecto.
+     *
+     * @param panel El panel donde se pinta.
+     * @param alTerminar Acción a ejecutar cuando una animación termina sin ser cancelada.
+     */
+    public SolveAnimator(MazePanel panel, Consumer<Boolean> alTerminar) {
+        this(panel, alTerminar, FPS_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un animador.
+     *
+     * @param panel El panel donde se pinta.
+     * @param alTerminar Acción a ejecutar cuando una animación termina sin ser cancelada.
+     * @param fps Cuadros por segundo.
+     */
+    public SolveAnimator(MazePanel panel, Consumer<Boolean> alTerminar, int fps) {
+        this.panel = panel;
+        this.alTerminar = alTerminar;
+        this.timer = new Timer(1000 / Math.max(1, Math.min(1000, fps)), e -> cuadro());
+        this.timer.setCoalesce(true);
+    }
+
+    /**
+     * Empieza a animar una cola de eventos, cancelando la animación anterior si la había.
+     *
+     * @param eventos La cola de eventos de la resolución.
+     */
+    public void iniciar(VisitEventQueue eventos) {
+        cancelar();
+        this.eventos = eventos;
+        this.credito = 0;
+        this.transcurrido = 0;
+        this.pausada = false;
+        this.saltar = false;
+        this.ultimoCuadro = System.nanoTime();
+        this.timer.start();
+    }
+
+    /** Detiene la animación en curso conservando su posición. */
+    public void pausar() {
+        if (this.eventos == null || this.pausada)
+            return;
+        this.pausada = true;
+        this.timer.stop();
+    }
+
+    /** Continúa una animación en pausa. */
+    public void reanudar() {
+        if (this.eventos == null || !this.pausada)
+            return;
+        this.pausada = false;
+        this.ultimoCuadro = System.nanoTime();
+        this.timer.start();
+    }
+
+    /**
+     * Abandona la animación en curso sin ejecutar la acción final. La cola se cierra para que la
+     * búsqueda no siga acumulando eventos.
+     */
+    public void cancelar() {
+        if (this.eventos == null)
+            return;
+        this.timer.stop();
+        this.eventos.close();
+        this.eventos = null;
+        this.pausada = false;
+    }
+
+    /**
+     * Pinta de inmediato todo lo que ya está en la cola y, si la búsqueda sigue, lo que vaya llegando
+     * en cada cuadro. También saca a la animación de la pausa.
+     */
+    public void saltarAlFinal() {
+        if (this.eventos == null)
+            return;
+        this.saltar = true;
+        reanudar();
+        cuadro();
+    }
+
+    /**
+     * Cambia al modo por velocidad.
+     *
+     * @param celdasPorSegundo Celdas a pintar por segundo (al menos 1).
+     */
+    public void setCeldasPorSegundo(int celdasPorSegundo) {
+        this.celdasPorSegundo = Math.max(1, celdasPorSegundo);
+        this.duracionObjetivo = 0;
+    }
+
+    /**
+     * Cambia al modo por duración: la animación intenta terminar cuando haya transcurrido este tiempo
+     * desde su inicio (sin contar las pausas).
+     *
+     * @param milisegundos La duración objetivo; 0 vuelve al modo por velocidad.
+     */
+    public void setDuracionObjetivo(long milisegundos) {
+        this.duracionObjetivo = Math.max(0, milisegundos) * 1_000_000L;
+    }
+
+    /** @return `true` si hay una animación en curso, aunque esté en pausa. */
+    public boolean isAnimando() {
+        return this.eventos != null;
+    }
+
+    /** @return `true` si la animación en curso está en pausa. */
+    public boolean isPausada() {
+        return this.pausada;
+    }
+
+    /**
+     * Pinta el lote de un cuadro y termina la animación si la cola se agotó.
+     */
+    private void cuadro() {
+        VisitEventQueue cola = this.eventos;
+        if (cola == null)
+            return;
+        long ahora = System.nanoTime();
+        long dt = ahora - this.ultimoCuadro;
+        this.ultimoCuadro = ahora;
+        this.transcurrido += dt;
+
+        int cantidad = this.saltar ? Integer.MAX_VALUE : eventosDelCuadro(cola, dt);
+        while (cantidad > 0) {
+            int n = cola.drainTo(this.lote, cantidad);
+            if (n == 0)
+                break;
+            this.panel.pintarEventos(this.lote, n);
+            cantidad -= n;
+        }
+
+        if (cola.isDrained()) {
+            this.timer.stop();
+            this.eventos = null;
+            if (this.alTerminar != null)
+                this.alTerminar.accept(cola.isFound());
+        } else if (cola.isClosed()) {
+            // La búsqueda falló y cerró la cola: no hay nada más que mostrar.
+            this.timer.stop();
+            this.eventos = null;
+        }
+    }
+
+    /**
+     * Calcula cuántos eventos pintar en este cuadro según el modo.
+     *
+     * @param cola La cola de eventos.
+     * @param dt El tiempo desde el cuadro anterior, en nanosegundos.
+     */
+    private int eventosDelCuadro(VisitEventQueue cola, long dt) {
+        if (this.duracionObjetivo > 0) {
+            long restante = this.duracionObjetivo - this.transcurrido;
+            int pendientes = cola.size();
+            if (restante <= 0)
+                return pendientes;
+            return (int) Math.min(pendientes, (long) Math.ceil((double) pendientes * dt / restante));
+        }
+        this.credito += this.celdasPorSegundo * (dt / 1e9);
+        int cantidad = (int) Math.min(Integer.MAX_VALUE, this.credito);
+        this.credito -= cantidad;
+        // Sin eventos pendientes no se acumula crédito: la animación no debe "adelantarse" a la búsqueda.
+        if (cola.size() == 0)
+            this.credito = 0;
+        return cantidad;
+    }
+}